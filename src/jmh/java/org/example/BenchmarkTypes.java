@@ -0,0 +1,172 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.BenchmarkTypes
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	BenchmarkTypes holds the enums and beans the codec benchmarks share.
+
+	The same three constants are declared three ways:
+		MatchType          this library, through EnumJsonModule
+		MatchTypeJsonValue the JsonValue and JsonCreator pattern of
+		                   EnumSerializationComparisonTests.MatchTypeTraditional
+		MatchTypePlain     Jackson's built in enum handling
+	Values are not ordinals, so a VALUE json never matches by ordinal.
+ */
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.example.EnumJson.Projection;
+
+final class BenchmarkTypes
+{
+
+	private BenchmarkTypes()
+	{
+	}
+
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationAliasFieldName = "type")
+	enum MatchType
+	{
+		UNKNOWN(100, "unknown"), EXACT(200, "exact"), WILDCARD(300, "wildcard");
+
+		final int value;
+		final String type;
+
+		MatchType(final int value, final String type)
+		{
+			this.value = value;
+			this.type = type;
+		}
+	}
+
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationAliasFieldName = "type", deserializeCaseInsensitive = true)
+	enum MatchTypeIgnoreCase
+	{
+		UNKNOWN(100, "unknown"), EXACT(200, "exact"), WILDCARD(300, "wildcard");
+
+		final int value;
+		final String type;
+
+		MatchTypeIgnoreCase(final int value, final String type)
+		{
+			this.value = value;
+			this.type = type;
+		}
+	}
+
+	enum MatchTypeJsonValue
+	{
+		UNKNOWN(100, "unknown"), EXACT(200, "exact"), WILDCARD(300, "wildcard");
+
+		private static final Map<Integer, MatchTypeJsonValue> VALUE_MATCH_TYPE_MAP = Stream.of(MatchTypeJsonValue.values())
+				.collect(Collectors.toMap(s -> s.value, Function.identity()));
+
+		private final int value;
+		private final String type;
+
+		MatchTypeJsonValue(final int value, final String type)
+		{
+			this.value = value;
+			this.type = type;
+		}
+
+		@JsonCreator
+		public static MatchTypeJsonValue fromValue(final Integer value)
+		{
+			return Optional.ofNullable(VALUE_MATCH_TYPE_MAP.get(value))
+					.orElseThrow(() -> new IllegalArgumentException(String.format("Illegal match type '%s' specified from value", value)));
+		}
+
+		@JsonValue
+		public int getValue()
+		{
+			return value;
+		}
+
+		@Override
+		public String toString()
+		{
+			return type;
+		}
+	}
+
+	enum MatchTypePlain
+	{
+		UNKNOWN, EXACT, WILDCARD
+	}
+
+	public static class Holder
+	{
+
+		public MatchType type = MatchType.EXACT;
+	}
+
+	public static class HolderIgnoreCase
+	{
+
+		public MatchTypeIgnoreCase type = MatchTypeIgnoreCase.EXACT;
+	}
+
+	public static class HolderJsonValue
+	{
+
+		public MatchTypeJsonValue type = MatchTypeJsonValue.EXACT;
+	}
+
+	public static class HolderPlain
+	{
+
+		public MatchTypePlain type = MatchTypePlain.EXACT;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A bean with enum members like EnumerationSerializerTest.SomeStuff,
+		one member per Projection and one read ignoring case.
+	 -------------------------------------------------------------------------------------------*/
+	public static class Stuff
+	{
+
+		@EnumJson(serializeProjection = Projection.ALIAS)
+		public MatchType alias = MatchType.EXACT;
+
+		@EnumJson(serializeProjection = Projection.NAME)
+		public MatchType name = MatchType.WILDCARD;
+
+		@EnumJson(serializeProjection = Projection.ORDINAL)
+		public MatchType ordinal = MatchType.UNKNOWN;
+
+		//The class annotation, VALUE
+		public MatchType value = MatchType.EXACT;
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializeCaseInsensitive = true)
+		public MatchTypeIgnoreCase ignoreCase = MatchTypeIgnoreCase.WILDCARD;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The mapper every benchmark starts from. Unknown enum values read as null, so a miss
+		measures the lookup and not the cost of an exception, where the enum allows it.
+	 -------------------------------------------------------------------------------------------*/
+	static ObjectMapper mapper()
+	{
+		return new ObjectMapper().registerModule(new EnumJsonModule())
+		                         .configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Wraps the json of an enum as the member of a Holder.
+	 -------------------------------------------------------------------------------------------*/
+	static String member(String json)
+	{
+		return "{\"type\":" + json + "}";
+	}
+}
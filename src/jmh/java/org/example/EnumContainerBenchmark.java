@@ -0,0 +1,119 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumContainerBenchmark
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumContainerBenchmark measures reading and writing arrays and Lists of thousands of constants,
+	the shape of an analytics payload.
+
+	The library is measured through EnumCollectionSerializer, EnumArraySerializer and their
+	deserializers, the baseline is Jackson's built in enum handling of the same containers.
+
+		gradle jmh -PjmhArgs="EnumContainerBenchmark -prof gc"
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.BenchmarkTypes.MatchType;
+import org.example.BenchmarkTypes.MatchTypePlain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnumContainerBenchmark
+{
+
+	@State(Scope.Benchmark)
+	public static class Containers
+	{
+
+		@Param({"100", "5000"})
+		public int size;
+
+		ObjectReader libraryArrayReader;
+		ObjectReader libraryListReader;
+		ObjectWriter libraryListWriter;
+		ObjectReader plainArrayReader;
+		ObjectWriter plainArrayWriter;
+		MatchType[] libraryArray;
+		List<MatchType> libraryList;
+		MatchTypePlain[] plainArray;
+		String libraryJson;
+		String plainJson;
+
+		@Setup
+		public void setUp() throws JsonProcessingException
+		{
+			ObjectMapper mapper = BenchmarkTypes.mapper();
+
+			libraryArray = new MatchType[size];
+			plainArray = new MatchTypePlain[size];
+			for (int i = 0; i < size; i++) {
+				libraryArray[i] = MatchType.values()[i % MatchType.values().length];
+				plainArray[i] = MatchTypePlain.values()[i % MatchTypePlain.values().length];
+			}
+			libraryList = Arrays.asList(libraryArray);
+
+			libraryArrayReader = mapper.readerFor(MatchType[].class);
+			libraryListReader = mapper.readerFor(new TypeReference<List<MatchType>>() {});
+			libraryListWriter = mapper.writerFor(new TypeReference<List<MatchType>>() {});
+			plainArrayReader = mapper.readerFor(MatchTypePlain[].class);
+			plainArrayWriter = mapper.writerFor(MatchTypePlain[].class);
+
+			libraryJson = mapper.writeValueAsString(libraryArray);
+			plainJson = mapper.writeValueAsString(plainArray);
+		}
+	}
+
+	@Benchmark
+	public Object libraryReadArray(Containers state) throws JsonProcessingException
+	{
+		return state.libraryArrayReader.readValue(state.libraryJson);
+	}
+
+	@Benchmark
+	public Object libraryReadList(Containers state) throws JsonProcessingException
+	{
+		return state.libraryListReader.readValue(state.libraryJson);
+	}
+
+	@Benchmark
+	public String libraryWriteList(Containers state) throws JsonProcessingException
+	{
+		return state.libraryListWriter.writeValueAsString(state.libraryList);
+	}
+
+	@Benchmark
+	public Object jacksonReadArray(Containers state) throws JsonProcessingException
+	{
+		return state.plainArrayReader.readValue(state.plainJson);
+	}
+
+	@Benchmark
+	public String jacksonWriteArray(Containers state) throws JsonProcessingException
+	{
+		return state.plainArrayWriter.writeValueAsString(state.plainArray);
+	}
+}
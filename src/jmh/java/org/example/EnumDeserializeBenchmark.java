@@ -0,0 +1,208 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumDeserializeBenchmark
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumDeserializeBenchmark measures reading one enum, as a root value and as the member of a bean.
+
+	EnumerationDeserializer is measured for the json of every Projection, case sensitive and
+	case insensitive, for a value that matches and one that doesn't. The case insensitive json
+	differs from the key in case, so it is found by the folded table.
+	The baselines are the JsonCreator pattern and Jackson's built in enum deserializer.
+
+		gradle jmh -PjmhArgs="EnumDeserializeBenchmark -prof gc"
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.util.concurrent.TimeUnit;
+import org.example.BenchmarkTypes.Holder;
+import org.example.BenchmarkTypes.HolderIgnoreCase;
+import org.example.BenchmarkTypes.HolderJsonValue;
+import org.example.BenchmarkTypes.HolderPlain;
+import org.example.BenchmarkTypes.MatchType;
+import org.example.BenchmarkTypes.MatchTypeIgnoreCase;
+import org.example.BenchmarkTypes.MatchTypeJsonValue;
+import org.example.BenchmarkTypes.MatchTypePlain;
+import org.example.EnumJson.Projection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnumDeserializeBenchmark
+{
+
+	@State(Scope.Benchmark)
+	public static class Library
+	{
+
+		@Param({"ALIAS", "NAME", "ORDINAL", "VALUE"})
+		public Projection projection;
+
+		@Param({"false", "true"})
+		public boolean caseInsensitive;
+
+		@Param({"true", "false"})
+		public boolean hit;
+
+		ObjectReader root;
+		ObjectReader member;
+		String rootJson;
+		String memberJson;
+
+		@Setup
+		public void setUp()
+		{
+			if (caseInsensitive) {
+				root = BenchmarkTypes.mapper().readerFor(MatchTypeIgnoreCase.class);
+				member = BenchmarkTypes.mapper().readerFor(HolderIgnoreCase.class);
+			}
+			else {
+				root = BenchmarkTypes.mapper().readerFor(MatchType.class);
+				member = BenchmarkTypes.mapper().readerFor(Holder.class);
+			}
+
+			rootJson = json(projection, caseInsensitive, hit);
+			memberJson = BenchmarkTypes.member(rootJson);
+		}
+
+		/*-------------------------------------------------------------------------------------------
+			The json of MatchType.EXACT for the Projection, E.g. "exact" for ALIAS.
+			Case insensitive json has the case of its first letter swapped, E.g. "Exact".
+		 -------------------------------------------------------------------------------------------*/
+		private static String json(Projection projection, boolean caseInsensitive, boolean hit)
+		{
+			String result;
+
+			switch (projection) {
+				case ALIAS:
+					result = text((hit) ? MatchType.EXACT.type : "exacto", caseInsensitive);
+					break;
+				case NAME:
+					result = text((hit) ? MatchType.EXACT.name() : "EXACTO", caseInsensitive);
+					break;
+				case ORDINAL:
+					result = (hit) ? Integer.toString(MatchType.EXACT.ordinal()) : "7";
+					break;
+				default:
+					result = (hit) ? Integer.toString(MatchType.EXACT.value) : "250";
+					break;
+			}
+
+			return result;
+		}
+
+		private static String text(String value, boolean swapFirstCase)
+		{
+			String result = value;
+
+			if (swapFirstCase) {
+				char first = value.charAt(0);
+				first = (Character.isUpperCase(first)) ? Character.toLowerCase(first) : Character.toUpperCase(first);
+				result = first + value.substring(1);
+			}
+
+			return "\"" + result + "\"";
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Baseline
+	{
+
+		@Param({"true", "false"})
+		public boolean hit;
+
+		ObjectReader jsonValueRoot;
+		ObjectReader jsonValueMember;
+		ObjectReader plainRoot;
+		ObjectReader plainMember;
+		String jsonValueJson;
+		String jsonValueMemberJson;
+		String plainJson;
+		String plainMemberJson;
+
+		@Setup
+		public void setUp()
+		{
+			jsonValueRoot = BenchmarkTypes.mapper().readerFor(MatchTypeJsonValue.class);
+			jsonValueMember = BenchmarkTypes.mapper().readerFor(HolderJsonValue.class);
+			plainRoot = BenchmarkTypes.mapper().readerFor(MatchTypePlain.class);
+			plainMember = BenchmarkTypes.mapper().readerFor(HolderPlain.class);
+
+			jsonValueJson = (hit) ? "200" : "250";
+			plainJson = (hit) ? "\"EXACT\"" : "\"EXACTO\"";
+			jsonValueMemberJson = BenchmarkTypes.member(jsonValueJson);
+			plainMemberJson = BenchmarkTypes.member(plainJson);
+		}
+	}
+
+	@Benchmark
+	public Object libraryRoot(Library state) throws JsonProcessingException
+	{
+		return state.root.readValue(state.rootJson);
+	}
+
+	@Benchmark
+	public Object libraryMember(Library state) throws JsonProcessingException
+	{
+		return state.member.readValue(state.memberJson);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A miss throws from the JsonCreator, the exception is part of what the pattern costs.
+	 -------------------------------------------------------------------------------------------*/
+	@Benchmark
+	public Object jsonValueRoot(Baseline state)
+	{
+		return readOrNull(state.jsonValueRoot, state.jsonValueJson);
+	}
+
+	@Benchmark
+	public Object jsonValueMember(Baseline state)
+	{
+		return readOrNull(state.jsonValueMember, state.jsonValueMemberJson);
+	}
+
+	@Benchmark
+	public Object jacksonRoot(Baseline state) throws JsonProcessingException
+	{
+		return state.plainRoot.readValue(state.plainJson);
+	}
+
+	@Benchmark
+	public Object jacksonMember(Baseline state) throws JsonProcessingException
+	{
+		return state.plainMember.readValue(state.plainMemberJson);
+	}
+
+	private static Object readOrNull(ObjectReader reader, String json)
+	{
+		Object result = null;
+
+		try {
+			result = reader.readValue(json);
+		}
+		catch (JsonProcessingException ignored) {
+			//Ignored, a miss
+		}
+
+		return result;
+	}
+}
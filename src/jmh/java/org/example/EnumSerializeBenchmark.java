@@ -0,0 +1,132 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumSerializeBenchmark
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumSerializeBenchmark measures writing one enum, as a root value and as the member of a bean.
+
+	EnumerationSerializer is measured for every Projection, against the JsonValue pattern
+	and Jackson's built in enum serializer. Replaces the StopWatch loop that was
+	EnumSerializationComparisonTests.speedTest.
+
+		gradle jmh -PjmhArgs="EnumSerializeBenchmark -prof gc"
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.util.concurrent.TimeUnit;
+import org.example.BenchmarkTypes.Holder;
+import org.example.BenchmarkTypes.HolderJsonValue;
+import org.example.BenchmarkTypes.HolderPlain;
+import org.example.BenchmarkTypes.MatchType;
+import org.example.BenchmarkTypes.MatchTypeJsonValue;
+import org.example.BenchmarkTypes.MatchTypePlain;
+import org.example.EnumJson.Projection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EnumSerializeBenchmark
+{
+
+	@State(Scope.Benchmark)
+	public static class Library
+	{
+
+		@Param({"ALIAS", "NAME", "ORDINAL", "VALUE"})
+		public Projection projection;
+
+		ObjectWriter root;
+		ObjectWriter member;
+		final MatchType value = MatchType.EXACT;
+		final Holder holder = new Holder();
+
+		@SuppressWarnings("unchecked")
+		@Setup
+		public void setUp()
+		{
+			//The Projection of the class annotation is replaced with the one being measured
+			SimpleModule module = new SimpleModule();
+			module.addSerializer(MatchType.class, new EnumerationSerializer<>((Class<Enum<MatchType>>) (Class<?>) MatchType.class, projection));
+
+			root = BenchmarkTypes.mapper().registerModule(module).writerFor(MatchType.class);
+			member = BenchmarkTypes.mapper().registerModule(module).writerFor(Holder.class);
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class Baseline
+	{
+
+		ObjectWriter jsonValueRoot;
+		ObjectWriter jsonValueMember;
+		ObjectWriter plainRoot;
+		ObjectWriter plainMember;
+		final MatchTypeJsonValue jsonValue = MatchTypeJsonValue.EXACT;
+		final HolderJsonValue jsonValueHolder = new HolderJsonValue();
+		final MatchTypePlain plain = MatchTypePlain.EXACT;
+		final HolderPlain plainHolder = new HolderPlain();
+
+		@Setup
+		public void setUp()
+		{
+			jsonValueRoot = BenchmarkTypes.mapper().writerFor(MatchTypeJsonValue.class);
+			jsonValueMember = BenchmarkTypes.mapper().writerFor(HolderJsonValue.class);
+			plainRoot = BenchmarkTypes.mapper().writerFor(MatchTypePlain.class);
+			plainMember = BenchmarkTypes.mapper().writerFor(HolderPlain.class);
+		}
+	}
+
+	@Benchmark
+	public String libraryRoot(Library state) throws JsonProcessingException
+	{
+		return state.root.writeValueAsString(state.value);
+	}
+
+	@Benchmark
+	public String libraryMember(Library state) throws JsonProcessingException
+	{
+		return state.member.writeValueAsString(state.holder);
+	}
+
+	@Benchmark
+	public String jsonValueRoot(Baseline state) throws JsonProcessingException
+	{
+		return state.jsonValueRoot.writeValueAsString(state.jsonValue);
+	}
+
+	@Benchmark
+	public String jsonValueMember(Baseline state) throws JsonProcessingException
+	{
+		return state.jsonValueMember.writeValueAsString(state.jsonValueHolder);
+	}
+
+	@Benchmark
+	public String jacksonRoot(Baseline state) throws JsonProcessingException
+	{
+		return state.plainRoot.writeValueAsString(state.plain);
+	}
+
+	@Benchmark
+	public String jacksonMember(Baseline state) throws JsonProcessingException
+	{
+		return state.plainMember.writeValueAsString(state.plainHolder);
+	}
+}
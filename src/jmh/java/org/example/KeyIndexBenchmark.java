@@ -0,0 +1,131 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.KeyIndexBenchmark
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	KeyIndexBenchmark measures one key lookup as an enum grows from 10 to 20k constants.
+	Each constant has three keys, like an enum with a name, an alias and a value.
+
+	Compares the two EnumKeyIndex tables against a plain HashMap.
+	Run KeyIndexFootprint for the memory side of the same comparison.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.example.EnumJson.Lookup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyIndexBenchmark
+{
+
+	private static final int PROBES = 1024;
+
+	@Param({"10", "100", "1000", "5000", "20000"})
+	public int size;
+
+	@Param({"HASH", "PERFECT_HASH", "HASH_MAP"})
+	public String table;
+
+	private EnumKeyIndex index;
+	private Map<String, Integer> map;
+	private String[] hits;
+	private String[] misses;
+	private int next = 0;
+
+	/*-------------------------------------------------------------------------------------------
+		Three keys per constant, E.g. CODE_00042, Code 42, C2a
+	 -------------------------------------------------------------------------------------------*/
+	static String[] keys(int size)
+	{
+		String[] keys = new String[size * 3];
+		for (int i = 0; i < size; i++) {
+			keys[i] = String.format("CODE_%05d", i);
+			keys[size + i] = "Code " + i;
+			keys[(size * 2) + i] = "C" + Integer.toHexString(i);
+		}
+		return keys;
+	}
+
+	static int[] ordinals(int size)
+	{
+		int[] ordinals = new int[size * 3];
+		for (int i = 0; i < ordinals.length; i++) {
+			ordinals[i] = i % size;
+		}
+		return ordinals;
+	}
+
+	@Setup
+	public void setUp()
+	{
+		String[] keys = keys(size);
+		int[] ordinals = ordinals(size);
+
+		if ("HASH_MAP".equals(table)) {
+			map = new HashMap<>();
+			for (int i = 0; i < keys.length; i++) {
+				map.put(keys[i], ordinals[i]);
+			}
+		}
+		else {
+			index = EnumKeyIndex.of(keys, ordinals, Lookup.valueOf(table));
+		}
+
+		//Probe with copies so that equals can't short cut on identity, as with parsed json.
+		Random random = new Random(42);
+		hits = new String[PROBES];
+		misses = new String[PROBES];
+		for (int i = 0; i < PROBES; i++) {
+			hits[i] = new String(keys[random.nextInt(keys.length)].toCharArray());
+			misses[i] = "MISSING_" + random.nextInt(size);
+		}
+	}
+
+	@Benchmark
+	public int hit()
+	{
+		return lookup(hits[next++ & (PROBES - 1)]);
+	}
+
+	@Benchmark
+	public int miss()
+	{
+		return lookup(misses[next++ & (PROBES - 1)]);
+	}
+
+	private int lookup(String key)
+	{
+		int result;
+
+		if (null != map) {
+			Integer ordinal = map.get(key);
+			result = (null == ordinal) ? EnumKeyIndex.NOT_FOUND : ordinal;
+		}
+		else {
+			result = index.ordinalOf(key);
+		}
+
+		return result;
+	}
+}
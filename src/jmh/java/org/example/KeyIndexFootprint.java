@@ -0,0 +1,57 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.KeyIndexFootprint
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	KeyIndexFootprint prints the retained heap of each key table as an enum grows,
+	using the same keys as KeyIndexBenchmark.
+
+	The key strings belong to the enum constants and are shared by every table,
+	so they are reported once and left out of the table columns.
+ */
+
+import java.util.HashMap;
+import java.util.Map;
+import org.example.EnumJson.Lookup;
+import org.openjdk.jol.info.GraphLayout;
+
+public class KeyIndexFootprint
+{
+
+	public static void main(String[] args)
+	{
+		System.out.printf("%8s %12s %12s %12s %12s%n", "size", "keys", "HASH_MAP", "HASH", "PERFECT_HASH");
+
+		for (int size : new int[] {10, 100, 1000, 5000, 20000}) {
+			String[] keys = KeyIndexBenchmark.keys(size);
+			int[] ordinals = KeyIndexBenchmark.ordinals(size);
+
+			Map<String, Integer> map = new HashMap<>();
+			for (int i = 0; i < keys.length; i++) {
+				map.put(keys[i], ordinals[i]);
+			}
+
+			long keyBytes = GraphLayout.parseInstance((Object[]) keys).totalSize();
+
+			System.out.printf("%8d %12d %12d %12d %12d%n",
+			                  size,
+			                  keyBytes,
+			                  tableBytes(map, keys),
+			                  tableBytes(EnumKeyIndex.of(keys, ordinals, Lookup.HASH), keys),
+			                  tableBytes(EnumKeyIndex.of(keys, ordinals, Lookup.PERFECT_HASH), keys));
+		}
+	}
+
+	private static long tableBytes(Object table, String[] keys)
+	{
+		//Measure the table together with the keys, then take the keys back out.
+		Object[] roots = new Object[keys.length + 1];
+		roots[0] = table;
+		System.arraycopy(keys, 0, roots, 1, keys.length);
+
+		return GraphLayout.parseInstance(roots).totalSize() - GraphLayout.parseInstance((Object[]) keys).totalSize();
+	}
+}
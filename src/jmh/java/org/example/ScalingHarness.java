@@ -0,0 +1,91 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.ScalingHarness
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	ScalingHarness runs SharedMapperBenchmark with 1, 2, 4 ... N threads and prints the
+	throughput per thread. While the codecs share no mutable state the ops/s per thread stay flat
+	as threads are added. Contention shows as a drop in the per thread column and the scaling
+	column, which is the per thread throughput as a share of the single thread throughput.
+
+		gradle scalingHarness -PscalingThreads=96
+
+	N defaults to the number of available processors.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public final class ScalingHarness
+{
+
+	private ScalingHarness()
+	{
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		int maxThreads = (args.length > 0) ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+
+		//Benchmark method, then thread count, to ops/s
+		Map<String, Map<Integer, Double>> scores = new TreeMap<>();
+
+		for (int threads : threadCounts(maxThreads)) {
+			Options options = new OptionsBuilder().include(SharedMapperBenchmark.class.getName())
+			                                      .mode(Mode.Throughput)
+			                                      .timeUnit(TimeUnit.SECONDS)
+			                                      .threads(threads)
+			                                      .shouldFailOnError(true)
+			                                      .build();
+
+			for (RunResult result : new Runner(options).run()) {
+				scores.computeIfAbsent(result.getParams().getBenchmark(), k -> new TreeMap<>())
+				      .put(threads, result.getPrimaryResult().getScore());
+			}
+		}
+
+		print(scores);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		1, 2, 4 ... up to maxThreads, and maxThreads itself.
+	 -------------------------------------------------------------------------------------------*/
+	static List<Integer> threadCounts(int maxThreads)
+	{
+		List<Integer> result = new ArrayList<>();
+
+		for (int threads = 1; threads < maxThreads; threads <<= 1) {
+			result.add(threads);
+		}
+		result.add(Math.max(maxThreads, 1));
+
+		return result;
+	}
+
+	private static void print(Map<String, Map<Integer, Double>> scores)
+	{
+		System.out.printf("%n%-60s %8s %16s %16s %8s%n", "Benchmark", "Threads", "ops/s", "ops/s/thread", "Scaling");
+
+		for (Map.Entry<String, Map<Integer, Double>> benchmark : scores.entrySet()) {
+			Double single = benchmark.getValue().get(1);
+
+			for (Map.Entry<Integer, Double> run : benchmark.getValue().entrySet()) {
+				double perThread = run.getValue() / run.getKey();
+				String scaling = (null == single) ? "" : String.format("%7.0f%%", (perThread * 100) / single);
+				System.out.printf("%-60s %8d %16.0f %16.0f %8s%n", benchmark.getKey(), run.getKey(), run.getValue(), perThread, scaling);
+			}
+		}
+	}
+}
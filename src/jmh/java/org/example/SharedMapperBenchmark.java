@@ -0,0 +1,65 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.SharedMapperBenchmark
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	SharedMapperBenchmark reads and writes a bean of enum members with one ObjectMapper shared
+	by every benchmark thread, the way a service uses it.
+
+	The thread count is set by ScalingHarness, which runs this benchmark with 1, 2, 4 ... N threads.
+	Run on its own it uses a single thread.
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.example.BenchmarkTypes.Stuff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class SharedMapperBenchmark
+{
+
+	private ObjectMapper mapper;
+	private Stuff stuff;
+	private String json;
+
+	@Setup
+	public void setUp() throws JsonProcessingException
+	{
+		mapper = BenchmarkTypes.mapper();
+		stuff = new Stuff();
+		json = mapper.writeValueAsString(stuff);
+	}
+
+	@Benchmark
+	public Stuff readValue() throws JsonProcessingException
+	{
+		return mapper.readValue(json, Stuff.class);
+	}
+
+	@Benchmark
+	public String writeValueAsString() throws JsonProcessingException
+	{
+		return mapper.writeValueAsString(stuff);
+	}
+}
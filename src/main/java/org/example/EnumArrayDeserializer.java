@@ -0,0 +1,129 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumArrayDeserializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumArrayDeserializer reads a json array of an enum into an array, E.g. a MatchType[] property.
+
+	As with EnumCollectionDeserializer, the EnumerationDeserializer of the effective annotation is
+	found once per property and the json array is read in one loop. The constants are gathered in
+	the context's ObjectBuffer, which is reused between reads, and copied once into the array.
+
+	A json null is a null element, as is a constant read as null, see EnumJson.UnknownValue.
+	A single constant is read as an array of one with ACCEPT_SINGLE_VALUE_AS_ARRAY.
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.ObjectBuffer;
+import java.io.IOException;
+import java.lang.reflect.Array;
+
+public class EnumArrayDeserializer<T extends Enum<T>> extends StdDeserializer<T[]> implements ContextualDeserializer
+{
+
+	private static final long serialVersionUID = 1L;
+	private final transient Class<T> enumClass;
+
+	//Set on the contextual instances only.
+	private final transient EnumerationDeserializer<T> elements;
+
+	public EnumArrayDeserializer()
+	{
+		this(null);
+	}
+
+	protected EnumArrayDeserializer(Class<T> enumClass)
+	{
+		super(Enum[].class);
+		this.enumClass = enumClass;
+		this.elements = null;
+	}
+
+	private EnumArrayDeserializer(EnumMetadata<T> metadata, EnumJson effectiveAnnotation, JavaType containerType)
+	{
+		super(containerType);
+		this.enumClass = metadata.getEnumClass();
+		this.elements = metadata.getDeserializer(effectiveAnnotation);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException
+	{
+		JsonDeserializer<?> result = this;
+		Class<T> contextualClass = enumClass;
+		EnumJson fieldAnnotation = null;
+
+		JavaType type = (null != property) ? property.getType() : ctxt.getContextualType();
+		if (null != property) {
+			fieldAnnotation = property.getAnnotation(EnumJson.class);
+		}
+
+		if ((null == contextualClass) && (null != type) && (null != type.getContentType())) {
+			contextualClass = (Class<T>) type.getContentType().getRawClass();
+		}
+
+		if ((null != contextualClass) && (contextualClass.isEnum())) {
+			EnumMetadata<T> metadata = EnumMetadata.of(contextualClass);
+			JavaType containerType = (null != type) ? type : ctxt.getTypeFactory().constructArrayType(contextualClass);
+			result = new EnumArrayDeserializer<>(metadata, (null != fieldAnnotation) ? fieldAnnotation : metadata.getClassAnnotation(), containerType);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Object getEmptyValue(DeserializationContext ctxt)
+	{
+		return (null == enumClass) ? null : Array.newInstance(enumClass, 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T[] deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+	{
+		T[] result;
+
+		if (null == elements) {
+			//Not contextualized, there is no enum class to read into.
+			result = (T[]) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+		else if (p.currentToken() == JsonToken.START_ARRAY) {
+			ObjectBuffer buffer = ctxt.leaseObjectBuffer();
+			Object[] chunk = buffer.resetAndStart();
+			int index = 0;
+
+			for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+				if (index >= chunk.length) {
+					chunk = buffer.appendCompletedChunk(chunk);
+					index = 0;
+				}
+				chunk[index++] = (token == JsonToken.VALUE_NULL) ? null : elements.deserializeElement(p, ctxt);
+			}
+
+			result = buffer.completeAndClearBuffer(chunk, index, enumClass);
+			ctxt.returnObjectBuffer(buffer);
+		}
+		else if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+			result = (T[]) Array.newInstance(enumClass, 1);
+			result[0] = (p.currentToken() == JsonToken.VALUE_NULL) ? null : enumClass.cast(elements.deserializeElement(p, ctxt));
+		}
+		else {
+			result = (T[]) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,86 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumArraySerializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumArraySerializer serializes an array of an enum, E.g. a MatchType[] property, as a json
+	array of the constants written the way EnumerationSerializer writes them.
+
+	As with EnumCollectionSerializer, the Projection is resolved once per property and the array
+	is written in one pass over the encoded outputs. The BITMASK Projection writes every constant
+	by name.
+
+	An EnumJson annotation on the property takes priority over the enum class annotation.
+	EnumJsonModule uses it for every array of an EnumJson enum.
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.example.EnumJson.Projection;
+
+public class EnumArraySerializer<T extends Enum<T>> extends StdSerializer<T[]> implements ContextualSerializer
+{
+
+	private static final long serialVersionUID = 1L;
+
+	//The Projection of the property being serialized, null to use the enum class annotation.
+	private final Projection projection;
+
+	public EnumArraySerializer()
+	{
+		this(null);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected EnumArraySerializer(Projection projection)
+	{
+		super((Class) Enum[].class);
+		this.projection = projection;
+	}
+
+	@Override
+	public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+	{
+		JsonSerializer<?> result = this;
+
+		if (null != property) {
+			EnumJson fieldAnnotation = property.getAnnotation(EnumJson.class);
+			if ((null != fieldAnnotation) && (fieldAnnotation.serializeProjection() != projection)) {
+				result = new EnumArraySerializer<T>(fieldAnnotation.serializeProjection());
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean isEmpty(SerializerProvider provider, T[] value)
+	{
+		return (0 == value.length);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void serialize(T[] value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		//An array knows its enum
+		EnumMetadata<T> metadata = EnumMetadata.of((Class<T>) value.getClass().getComponentType());
+
+		//Field annotation has priority over class annotation
+		Projection effective = (null != projection) ? projection : metadata.getSerializeProjection();
+		int written = metadata.getEncodings().writeArray(value, effective, gen, provider);
+
+		EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+		if (null != metrics) {
+			metrics.serialize(metadata.getEnumClass(), effective, written);
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumBitmask
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumBitmask is the Projection.BITMASK encoding of a set of constants, a bit per ordinal.
+
+	An enum with up to 64 constants is one long, bit n set for the constant with ordinal n.
+	A larger enum is a long[] of ceil(constants / 64) words, ordinal n in word n / 64.
+	Bits past the last constant are ignored when read, so a producer with newer constants
+	doesn't break an older consumer.
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+
+final class EnumBitmask
+{
+
+	private EnumBitmask()
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The number of words of an enum with constantCount constants, at least one.
+	 -------------------------------------------------------------------------------------------*/
+	static int wordCount(int constantCount)
+	{
+		return Math.max(1, (constantCount + 63) >>> 6);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Writes the constants as a long, or a long[] for an enum of more than 64 constants.
+		Null elements are skipped.
+	 -------------------------------------------------------------------------------------------*/
+	static void write(Collection<? extends Enum<?>> constants, int constantCount, JsonGenerator gen) throws IOException
+	{
+		if (constantCount <= 64) {
+			long word = 0;
+			for (Enum<?> constant : constants) {
+				if (null != constant) {
+					word |= 1L << constant.ordinal();
+				}
+			}
+			gen.writeNumber(word);
+		}
+		else {
+			long[] words = new long[wordCount(constantCount)];
+			for (Enum<?> constant : constants) {
+				if (null != constant) {
+					words[constant.ordinal() >>> 6] |= 1L << constant.ordinal();
+				}
+			}
+			gen.writeArray(words, 0, words.length);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Adds the constants of the bits of word, the word at wordIndex of the bitmask.
+	 -------------------------------------------------------------------------------------------*/
+	static <T extends Enum<T>> void add(EnumSet<T> set, T[] constants, long word, int wordIndex)
+	{
+		long bits = word;
+		int base = wordIndex << 6;
+
+		while (bits != 0) {
+			int ordinal = base + Long.numberOfTrailingZeros(bits);
+			if (ordinal >= constants.length) {
+				break;
+			}
+			set.add(constants[ordinal]);
+			bits &= bits - 1;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumCollectionDeserializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumCollectionDeserializer reads a json array of an enum into an ArrayList, E.g. a
+	List<MatchType> or Collection<MatchType> property.
+
+	The EnumerationDeserializer of the effective annotation is found once per property, then the
+	array is read in one loop straight into the list. Jackson's collection deserializer would
+	resolve and check the element deserializer for every element.
+
+	A json null is a null element, as is a constant read as null, see EnumJson.UnknownValue.
+	A single constant is read as a list of one with ACCEPT_SINGLE_VALUE_AS_ARRAY.
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+public class EnumCollectionDeserializer<T extends Enum<T>> extends StdDeserializer<Collection<T>> implements ContextualDeserializer
+{
+
+	private static final long serialVersionUID = 1L;
+	private final transient Class<T> enumClass;
+
+	//Set on the contextual instances only.
+	private final transient EnumerationDeserializer<T> elements;
+
+	public EnumCollectionDeserializer()
+	{
+		this(null);
+	}
+
+	protected EnumCollectionDeserializer(Class<T> enumClass)
+	{
+		super(Collection.class);
+		this.enumClass = enumClass;
+		this.elements = null;
+	}
+
+	private EnumCollectionDeserializer(EnumMetadata<T> metadata, EnumJson effectiveAnnotation, JavaType containerType)
+	{
+		super(containerType);
+		this.enumClass = metadata.getEnumClass();
+		this.elements = metadata.getDeserializer(effectiveAnnotation);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException
+	{
+		JsonDeserializer<?> result = this;
+		Class<T> contextualClass = enumClass;
+		EnumJson fieldAnnotation = null;
+
+		JavaType type = (null != property) ? property.getType() : ctxt.getContextualType();
+		if (null != property) {
+			fieldAnnotation = property.getAnnotation(EnumJson.class);
+		}
+
+		if ((null == contextualClass) && (null != type) && (null != type.getContentType())) {
+			contextualClass = (Class<T>) type.getContentType().getRawClass();
+		}
+
+		if ((null != contextualClass) && (contextualClass.isEnum())) {
+			EnumMetadata<T> metadata = EnumMetadata.of(contextualClass);
+			JavaType containerType = (null != type) ? type : ctxt.getTypeFactory().constructCollectionType(Collection.class, contextualClass);
+			result = new EnumCollectionDeserializer<>(metadata, (null != fieldAnnotation) ? fieldAnnotation : metadata.getClassAnnotation(), containerType);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Object getEmptyValue(DeserializationContext ctxt)
+	{
+		return new ArrayList<T>();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Collection<T> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+	{
+		Collection<T> result;
+
+		if (null == elements) {
+			//Not contextualized, there is no enum class to read into.
+			result = (Collection<T>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+		else if (p.currentToken() == JsonToken.START_ARRAY) {
+			ArrayList<T> list = new ArrayList<>();
+			for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+				list.add((token == JsonToken.VALUE_NULL) ? null : enumClass.cast(elements.deserializeElement(p, ctxt)));
+			}
+			result = list;
+		}
+		else if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+			ArrayList<T> list = new ArrayList<>(1);
+			list.add((p.currentToken() == JsonToken.VALUE_NULL) ? null : enumClass.cast(elements.deserializeElement(p, ctxt)));
+			result = list;
+		}
+		else {
+			result = (Collection<T>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,155 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumCollectionSerializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumCollectionSerializer serializes a Collection of an enum, E.g. a List<MatchType> property,
+	as an array of the constants written the way EnumerationSerializer writes them.
+
+	The enum class and Projection are resolved once per property, not per element, and the
+	array is written in one pass over the encoded outputs, see EnumEncodings.writeArray.
+	The BITMASK Projection writes every constant by name, only a Set is a bitmask,
+	see EnumSetSerializer.
+
+	As with EnumerationSerializer, an EnumJson annotation on the property takes priority over
+	the enum class annotation. EnumJsonModule uses it for every Collection of an EnumJson enum.
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.Collection;
+import org.example.EnumJson.Projection;
+
+public class EnumCollectionSerializer<T extends Enum<T>> extends StdSerializer<Collection<T>> implements ContextualSerializer
+{
+
+	private static final long serialVersionUID = 1L;
+
+	//Null until the enum class is known, E.g. from the property when used with JsonSerialize.
+	private final transient Class<T> enumClass;
+
+	//The Projection of the property being serialized, null to use the enum class annotation.
+	private final Projection projection;
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public EnumCollectionSerializer()
+	{
+		super((Class) Collection.class);
+		this.enumClass = null;
+		this.projection = null;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected EnumCollectionSerializer(Class<T> enumClass, Projection projection)
+	{
+		super((Class) Collection.class);
+		this.enumClass = enumClass;
+		this.projection = projection;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A serializer of this kind for the enum class and Projection of a property.
+	 -------------------------------------------------------------------------------------------*/
+	EnumCollectionSerializer<T> withContext(Class<T> contextualClass, Projection contextualProjection)
+	{
+		return new EnumCollectionSerializer<>(contextualClass, contextualProjection);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+	{
+		JsonSerializer<?> result = this;
+		Class<T> contextualClass = enumClass;
+		Projection contextualProjection = projection;
+
+		if (null != property) {
+			JavaType contentType = property.getType().getContentType();
+			if ((null == contextualClass) && (null != contentType) && (contentType.isEnumType())) {
+				contextualClass = (Class<T>) contentType.getRawClass();
+			}
+
+			EnumJson fieldAnnotation = property.getAnnotation(EnumJson.class);
+			if (null != fieldAnnotation) {
+				contextualProjection = fieldAnnotation.serializeProjection();
+			}
+		}
+
+		if ((contextualClass != enumClass) || (contextualProjection != projection)) {
+			result = withContext(contextualClass, contextualProjection);
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean isEmpty(SerializerProvider provider, Collection<T> value)
+	{
+		return value.isEmpty();
+	}
+
+	@Override
+	public void serialize(Collection<T> value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		Class<T> effectiveClass = (null != enumClass) ? enumClass : elementClass(value);
+
+		if (null == effectiveClass) {
+			//No constant and no property to tell the enum, E.g. a root value with JsonSerialize.
+			writeUnknownClass(projection, value, gen);
+		}
+		else {
+			EnumMetadata<T> metadata = EnumMetadata.of(effectiveClass);
+			//Field annotation has priority over class annotation
+			write(metadata, (null != projection) ? projection : metadata.getSerializeProjection(), value, gen, provider);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Writes value, a collection with no constant, when the enum class isn't known.
+		projection is the Projection of the property, null if it has no EnumJson annotation.
+	 -------------------------------------------------------------------------------------------*/
+	void writeUnknownClass(Projection projection, Collection<T> value, JsonGenerator gen) throws IOException
+	{
+		gen.writeStartArray(value, value.size());
+		for (int i = 0; i < value.size(); i++) {
+			gen.writeNull();
+		}
+		gen.writeEndArray();
+	}
+
+	void write(EnumMetadata<T> metadata, Projection effective, Collection<T> value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		int written = metadata.getEncodings().writeArray(value, effective, gen, provider);
+
+		EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+		if (null != metrics) {
+			metrics.serialize(metadata.getEnumClass(), effective, written);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The enum of the first constant in value, null if there is none.
+	 -------------------------------------------------------------------------------------------*/
+	private static <T extends Enum<T>> Class<T> elementClass(Collection<T> value)
+	{
+		Class<T> result = null;
+
+		for (T constant : value) {
+			if (null != constant) {
+				result = constant.getDeclaringClass();
+				break;
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,356 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumEncodings
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumEncodings holds the json output of every constant of one enum class for every Projection.
+
+	Outputs are encoded once, so writing a constant is a single call on the generator:
+		Strings are SerializedStrings, which cache their quoted and UTF-8 forms.
+		Ordinals and integral values are written as primitive numbers, primitive fields are read
+		without boxing.
+		Any other value type is handed to the SerializerProvider.
+
+	If the enum has no field for the ALIAS or VALUE Projection the constant is written by name.
+	BITMASK is the Projection of a Set, see EnumSetSerializer, a single constant is written by name.
+
+	writeArray writes a whole container, the outputs of the Projection are found once for all of it.
+
+	Every output also has a map key, its text encoded as a SerializedString, E.g. "200" for an
+	int value. writeKey writes it as a field name, see EnumKeySerializer.
+	A null value has no text, its key is the name.
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import org.example.EnumJson.Projection;
+
+final class EnumEncodings<T extends Enum<T>>
+{
+
+	private final Output[][] outputs = new Output[Projection.values().length][];
+	private final SerializableString[][] keys = new SerializableString[Projection.values().length][];
+
+	EnumEncodings(EnumMetadata<T> metadata)
+	{
+		T[] constants = metadata.getConstants();
+		EnumJsonCodec<T> codec = metadata.getCodec();
+
+		Output[] names = new Output[constants.length];
+		Output[] ordinals = new Output[constants.length];
+		for (T constant : constants) {
+			if (null != codec) {
+				//Encoded when the generated codec was loaded
+				names[constant.ordinal()] = new StringOutput(codec.names()[constant.ordinal()]);
+			}
+			else {
+				names[constant.ordinal()] = new StringOutput(new SerializedString(constant.name()));
+			}
+			ordinals[constant.ordinal()] = new IntOutput(constant.ordinal());
+		}
+
+		outputs[Projection.NAME.ordinal()] = names;
+		outputs[Projection.ORDINAL.ordinal()] = ordinals;
+		outputs[Projection.ALIAS.ordinal()] = fieldOutputs(metadata, metadata.getAliasField(), names);
+		outputs[Projection.VALUE.ordinal()] = fieldOutputs(metadata, metadata.getValueField(), names);
+		//BITMASK encodes a Set, a single constant is its name.
+		outputs[Projection.BITMASK.ordinal()] = names;
+
+		SerializableString[] nameKeys = keysOf(names, null);
+		for (Projection projection : Projection.values()) {
+			Output[] projected = outputs[projection.ordinal()];
+			keys[projection.ordinal()] = (projected == names) ? nameKeys : keysOf(projected, nameKeys);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The number of outputs, one per constant and Projection.
+	 -------------------------------------------------------------------------------------------*/
+	int size()
+	{
+		return outputs.length * outputs[0].length;
+	}
+
+	void write(Enum<T> value, Projection projection, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		outputs[projection.ordinal()][value.ordinal()].write(gen, provider);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Writes the key of value as a field name, E.g. of an EnumMap.
+	 -------------------------------------------------------------------------------------------*/
+	void writeKey(Enum<T> value, Projection projection, JsonGenerator gen) throws IOException
+	{
+		gen.writeFieldName(keys[projection.ordinal()][value.ordinal()]);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Writes values as a json array, a null element as null.
+		Returns the number of constants written.
+	 -------------------------------------------------------------------------------------------*/
+	int writeArray(Collection<? extends Enum<T>> values, Projection projection, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		Output[] projected = outputs[projection.ordinal()];
+		int result = 0;
+
+		gen.writeStartArray(values, values.size());
+		if (values instanceof RandomAccess) {
+			//No Iterator for an ArrayList
+			List<? extends Enum<T>> list = (List<? extends Enum<T>>) values;
+			for (int i = 0, size = list.size(); i < size; i++) {
+				result += write(projected, list.get(i), gen, provider);
+			}
+		}
+		else {
+			for (Enum<T> value : values) {
+				result += write(projected, value, gen, provider);
+			}
+		}
+		gen.writeEndArray();
+
+		return result;
+	}
+
+	int writeArray(Enum<T>[] values, Projection projection, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		Output[] projected = outputs[projection.ordinal()];
+		int result = 0;
+
+		gen.writeStartArray(values, values.length);
+		for (Enum<T> value : values) {
+			result += write(projected, value, gen, provider);
+		}
+		gen.writeEndArray();
+
+		return result;
+	}
+
+	private static int write(Output[] projected, Enum<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		int result = 0;
+
+		if (null == value) {
+			gen.writeNull();
+		}
+		else {
+			projected[value.ordinal()].write(gen, provider);
+			result = 1;
+		}
+
+		return result;
+	}
+
+	private static SerializableString[] keysOf(Output[] projected, SerializableString[] nameKeys)
+	{
+		SerializableString[] result = new SerializableString[projected.length];
+
+		for (int i = 0; i < projected.length; i++) {
+			result[i] = projected[i].key();
+			if (null == result[i]) {
+				result[i] = nameKeys[i];
+			}
+		}
+
+		return result;
+	}
+
+	private static <T extends Enum<T>> Output[] fieldOutputs(EnumMetadata<T> metadata, EnumFieldAccessor field, Output[] names)
+	{
+		Output[] result = names;
+
+		if (null != field) {
+			Class<?> type = field.getType();
+			result = new Output[names.length];
+			for (T constant : metadata.getConstants()) {
+				if (long.class.equals(type)) {
+					result[constant.ordinal()] = new LongOutput(field.getLong(constant));
+				}
+				else if (field.isIntegral()) {
+					result[constant.ordinal()] = new IntOutput((int) field.getLong(constant));
+				}
+				else {
+					result[constant.ordinal()] = encode(field.get(constant));
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static Output encode(Object foundValue)
+	{
+		Output result;
+
+		if (null == foundValue) {
+			result = NullOutput.INSTANCE;
+		}
+		else if ((foundValue instanceof String) || (foundValue instanceof Character)) {
+			result = new StringOutput(new SerializedString(foundValue.toString()));
+		}
+		else if ((foundValue instanceof Integer) || (foundValue instanceof Short) || (foundValue instanceof Byte)) {
+			result = new IntOutput(((Number) foundValue).intValue());
+		}
+		else if (foundValue instanceof Long) {
+			result = new LongOutput((Long) foundValue);
+		}
+		else if (foundValue instanceof Boolean) {
+			result = new BooleanOutput((Boolean) foundValue);
+		}
+		else {
+			result = new ObjectOutput(foundValue);
+		}
+
+		return result;
+	}
+
+	private abstract static class Output
+	{
+
+		abstract void write(JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+		//The text of the output as a map key, null if it has none.
+		abstract SerializableString key();
+	}
+
+	private static final class StringOutput extends Output
+	{
+
+		private final SerializableString encoded;
+
+		StringOutput(SerializableString encoded)
+		{
+			this.encoded = encoded;
+		}
+
+		@Override
+		void write(JsonGenerator gen, SerializerProvider provider) throws IOException
+		{
+			gen.writeString(encoded);
+		}
+
+		@Override
+		SerializableString key()
+		{
+			return encoded;
+		}
+	}
+
+	private static final class IntOutput extends Output
+	{
+
+		private final int number;
+
+		IntOutput(int number)
+		{
+			this.number = number;
+		}
+
+		@Override
+		void write(JsonGenerator gen, SerializerProvider provider) throws IOException
+		{
+			gen.writeNumber(number);
+		}
+
+		@Override
+		SerializableString key()
+		{
+			return new SerializedString(Integer.toString(number));
+		}
+	}
+
+	private static final class LongOutput extends Output
+	{
+
+		private final long number;
+
+		LongOutput(long number)
+		{
+			this.number = number;
+		}
+
+		@Override
+		void write(JsonGenerator gen, SerializerProvider provider) throws IOException
+		{
+			gen.writeNumber(number);
+		}
+
+		@Override
+		SerializableString key()
+		{
+			return new SerializedString(Long.toString(number));
+		}
+	}
+
+	private static final class BooleanOutput extends Output
+	{
+
+		private final boolean state;
+
+		BooleanOutput(boolean state)
+		{
+			this.state = state;
+		}
+
+		@Override
+		void write(JsonGenerator gen, SerializerProvider provider) throws IOException
+		{
+			gen.writeBoolean(state);
+		}
+
+		@Override
+		SerializableString key()
+		{
+			return new SerializedString(Boolean.toString(state));
+		}
+	}
+
+	private static final class ObjectOutput extends Output
+	{
+
+		private final Object value;
+
+		ObjectOutput(Object value)
+		{
+			this.value = value;
+		}
+
+		@Override
+		void write(JsonGenerator gen, SerializerProvider provider) throws IOException
+		{
+			provider.defaultSerializeValue(value, gen);
+		}
+
+		@Override
+		SerializableString key()
+		{
+			return new SerializedString(value.toString());
+		}
+	}
+
+	private static final class NullOutput extends Output
+	{
+
+		static final NullOutput INSTANCE = new NullOutput();
+
+		@Override
+		void write(JsonGenerator gen, SerializerProvider provider) throws IOException
+		{
+			gen.writeNull();
+		}
+
+		@Override
+		SerializableString key()
+		{
+			return null;
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumFieldAccessor
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumFieldAccessor reads a VALUE or ALIAS field of an enum.
+
+	For an enum with a generated EnumJsonCodec the field is read by the codec's own code.
+	Otherwise it is read through a MethodHandle getter.
+
+	The getter is created once with a private lookup into the enum class, so the field is never
+	made accessible with setAccessible. Unlike Field.get, invoking the getter repeats no access
+	check and the JIT can compile it down to a plain field read.
+
+	Integral primitive fields are read as a long without boxing.
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import org.example.EnumJson.Projection;
+
+abstract class EnumFieldAccessor
+{
+
+	private final String name;
+	private final Class<?> type;
+
+	private EnumFieldAccessor(String name, Class<?> type)
+	{
+		this.name = name;
+		this.type = type;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Returns null if the field can't be read, E.g. the enum is in a named module
+		that doesn't open its package.
+	 -------------------------------------------------------------------------------------------*/
+	static EnumFieldAccessor of(Field field)
+	{
+		EnumFieldAccessor result = null;
+
+		MethodHandle getter = null;
+		try {
+			getter = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup()).unreflectGetter(field);
+		}
+		catch (IllegalAccessException ignored) {
+			//Not open to this library, try again with the access this library already has.
+			try {
+				getter = MethodHandles.lookup().unreflectGetter(field);
+			}
+			catch (IllegalAccessException alsoIgnored) {
+				//Ignored
+			}
+		}
+
+		if (null != getter) {
+			result = new HandleAccessor(field, getter);
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Returns null if the enum of the codec has no field for the Projection.
+	 -------------------------------------------------------------------------------------------*/
+	static <T extends Enum<T>> EnumFieldAccessor of(EnumJsonCodec<T> codec, Projection projection)
+	{
+		EnumFieldAccessor result = null;
+
+		if (null != codec.fieldName(projection)) {
+			result = new CodecAccessor<>(codec, projection);
+		}
+
+		return result;
+	}
+
+	String getName()
+	{
+		return name;
+	}
+
+	Class<?> getType()
+	{
+		return type;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		True for int, long, short and byte fields, which getLong reads without boxing.
+	 -------------------------------------------------------------------------------------------*/
+	boolean isIntegral()
+	{
+		return (int.class.equals(type)) || (long.class.equals(type)) || (short.class.equals(type)) || (byte.class.equals(type));
+	}
+
+	abstract Object get(Object constant);
+
+	abstract long getLong(Object constant);
+
+	private static final class HandleAccessor extends EnumFieldAccessor
+	{
+
+		private static final MethodType OBJECT_GETTER = MethodType.methodType(Object.class, Object.class);
+		private static final MethodType LONG_GETTER = MethodType.methodType(long.class, Object.class);
+
+		private final MethodHandle getter;
+		private final MethodHandle longGetter;
+
+		HandleAccessor(Field field, MethodHandle getter)
+		{
+			super(field.getName(), field.getType());
+			this.getter = getter.asType(OBJECT_GETTER);
+			this.longGetter = isIntegral() ? getter.asType(LONG_GETTER) : null;
+		}
+
+		@Override
+		Object get(Object constant)
+		{
+			Object result = null;
+
+			try {
+				result = (Object) getter.invokeExact(constant);
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable ignored) {
+				//Ignored, a field getter throws no checked exception
+			}
+
+			return result;
+		}
+
+		@Override
+		long getLong(Object constant)
+		{
+			long result = 0;
+
+			try {
+				result = (long) longGetter.invokeExact(constant);
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable ignored) {
+				//Ignored, a field getter throws no checked exception
+			}
+
+			return result;
+		}
+	}
+
+	private static final class CodecAccessor<T extends Enum<T>> extends EnumFieldAccessor
+	{
+
+		private final EnumJsonCodec<T> codec;
+		private final Projection projection;
+
+		CodecAccessor(EnumJsonCodec<T> codec, Projection projection)
+		{
+			super(codec.fieldName(projection), codec.fieldType(projection));
+			this.codec = codec;
+			this.projection = projection;
+		}
+
+		@Override
+		Object get(Object constant)
+		{
+			return codec.fieldValue(projection, codec.enumClass().cast(constant));
+		}
+
+		@Override
+		long getLong(Object constant)
+		{
+			return codec.longFieldValue(projection, codec.enumClass().cast(constant));
+		}
+	}
+}
@@ -20,7 +20,29 @@ public @interface EnumJson
 		ALIAS,   //Enum has a property for an alias or alternate name. E.g. Monday
 		NAME,    //Enum.name. E.g. MONDAY
 		ORDINAL, //Enum.ordinal. E.g. 0, 1, 3, 4, etc.
-		VALUE    //Enum has property for some type of value. E.g. LUNES
+		VALUE,   //Enum has property for some type of value. E.g. LUNES
+		BITMASK  //A Set of the enum is one long with a bit per ordinal, or a long[] past 64 constants. E.g. 5 for {MONDAY, WEDNESDAY}
+		         //A single constant is written by name.
+	}
+
+	enum Lookup
+	{
+		HASH,        //Open addressing hash table. E.g. most enums
+		PERFECT_HASH //Minimal perfect hash over compact arrays. E.g. enums generated from a catalog of thousands of codes
+	}
+
+	enum Normalization
+	{
+		TRIM,                  //Leading and trailing whitespace is ignored. E.g. " WILDCARD "
+		SEPARATOR_INSENSITIVE, //- _ . and space are ignored. E.g. wild-card or Wild_Card
+		CASE_FOLD              //Case is ignored. E.g. Wildcard
+	}
+
+	enum UnknownValue
+	{
+		NULL,    //A json value that matches no constant is read as null
+		DEFAULT, //It is read as the constant named by deserializationDefault. E.g. UNKNOWN
+		FAIL     //It throws a new UnknownEnumValueException, which has no stack trace
 	}
 
 	Projection serializeProjection() default Projection.VALUE;
@@ -32,4 +54,14 @@ public @interface EnumJson
 	String deserializationValueFieldName() default "";
 
 	String deserializationAliasFieldName() default "";
+
+	Lookup deserializationLookup() default Lookup.HASH;
+
+	UnknownValue deserializationUnknownValue() default UnknownValue.NULL;
+
+	String deserializationDefault() default "";
+
+	Normalization[] deserializationNormalization() default {};
+
+	Class<?> deserializationNormalizer() default Void.class;
 }
\ No newline at end of file
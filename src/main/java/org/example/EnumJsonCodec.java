@@ -0,0 +1,76 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonCodec
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonCodec is implemented by the classes EnumJsonProcessor generates at build time,
+	one per enum annotated with EnumJson. It tells EnumMetadata everything reflection would
+	otherwise have to discover, so EnumerationSerializer and EnumerationDeserializer use it
+	without any runtime reflection on the enum.
+
+	A generated codec is named after the enum's binary name with $ replaced by _ and the
+	suffix _EnumJsonCodec, in the enum's package. E.g. for org.example.Outer$Color
+		org.example.Outer_Color_EnumJsonCodec
+	EnumMetadata loads it the first time the enum is used. Enums without a codec,
+	E.g. when the processor didn't run, use the reflective path.
+
+	Implementations must be stateless and have a public no argument constructor.
+ */
+
+import com.fasterxml.jackson.core.SerializableString;
+import org.example.EnumJson.Projection;
+
+public interface EnumJsonCodec<T extends Enum<T>>
+{
+
+	String CODEC_SUFFIX = "_EnumJsonCodec";
+
+	Class<T> enumClass();
+
+	/*-------------------------------------------------------------------------------------------
+		The shared constants array in ordinal order. It is not a copy, callers must not modify it.
+	 -------------------------------------------------------------------------------------------*/
+	T[] constants();
+
+	/*-------------------------------------------------------------------------------------------
+		The pre encoded name of every constant in ordinal order.
+	 -------------------------------------------------------------------------------------------*/
+	SerializableString[] names();
+
+	/*-------------------------------------------------------------------------------------------
+		The ordinal of the constant named by chars[offset, offset + length), or -1.
+	 -------------------------------------------------------------------------------------------*/
+	int nameOrdinal(char[] chars, int offset, int length);
+
+	/*-------------------------------------------------------------------------------------------
+		The name of the field for the VALUE or ALIAS Projection, null if the enum has none.
+	 -------------------------------------------------------------------------------------------*/
+	String fieldName(Projection projection);
+
+	Class<?> fieldType(Projection projection);
+
+	Object fieldValue(Projection projection, T constant);
+
+	/*-------------------------------------------------------------------------------------------
+		Reads an int, long, short or byte field without boxing.
+	 -------------------------------------------------------------------------------------------*/
+	long longFieldValue(Projection projection, T constant);
+
+	/*-------------------------------------------------------------------------------------------
+		Used by generated codecs to compare a name with the characters of the json value.
+		The caller has already checked the length.
+	 -------------------------------------------------------------------------------------------*/
+	static boolean matches(String name, char[] chars, int offset)
+	{
+		boolean result = true;
+
+		for (int i = 0; (result) && (i < name.length()); i++) {
+			result = (name.charAt(i) == chars[offset + i]);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,205 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonCounters
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonCounters is an EnumJsonMetrics that counts every call per enum class.
+
+	Each count is a LongAdder, so threads reading the same enum add to their own cells instead of
+	contending on one counter. A snapshot sums the cells, it is a consistent count of each counter
+	but not of all counters at one instant.
+
+	The counters of an enum are found through a ClassValue and listed by the enum class name,
+	the enum Class itself is never held, so installed metrics don't keep a class loader from
+	being unloaded. An enum of the same name loaded again, E.g. by a redeployed webapp, adds to
+	the same counters. An enum with nothing counted since the last reset is not in a snapshot.
+
+	Snapshot keys are the enum class name and the counter, E.g.
+		com.acme.MatchType.lookup.ALIAS
+		com.acme.MatchType.miss
+		com.acme.MatchType.caseInsensitiveFallback
+		com.acme.MatchType.normalizedFallback
+		com.acme.MatchType.serialize.VALUE
+ */
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.example.EnumJson.Projection;
+
+public final class EnumJsonCounters extends EnumJsonMetrics
+{
+
+	private static final Projection[] PROJECTIONS = Projection.values();
+
+	//Every enum counted so far, by class name.
+	private final ConcurrentMap<String, Counters> byName = new ConcurrentHashMap<>();
+
+	private final ClassValue<Counters> counters = new ClassValue<>()
+	{
+		@Override
+		protected Counters computeValue(Class<?> type)
+		{
+			return byName.computeIfAbsent(type.getName(), name -> new Counters());
+		}
+	};
+
+	private static final class Counters
+	{
+
+		private final LongAdder[] lookups = adders();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder caseInsensitiveFallbacks = new LongAdder();
+		private final LongAdder normalizedFallbacks = new LongAdder();
+		private final LongAdder[] serializes = adders();
+
+		private long total()
+		{
+			long result = misses.sum() + caseInsensitiveFallbacks.sum() + normalizedFallbacks.sum();
+			for (int i = 0; i < PROJECTIONS.length; i++) {
+				result += lookups[i].sum() + serializes[i].sum();
+			}
+			return result;
+		}
+
+		private void reset()
+		{
+			misses.reset();
+			caseInsensitiveFallbacks.reset();
+			normalizedFallbacks.reset();
+			for (int i = 0; i < PROJECTIONS.length; i++) {
+				lookups[i].reset();
+				serializes[i].reset();
+			}
+		}
+
+		private static LongAdder[] adders()
+		{
+			LongAdder[] result = new LongAdder[PROJECTIONS.length];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = new LongAdder();
+			}
+			return result;
+		}
+	}
+
+	@Override
+	public void lookup(Class<?> enumClass, Projection matched)
+	{
+		countersOf(enumClass).lookups[matched.ordinal()].increment();
+	}
+
+	@Override
+	public void miss(Class<?> enumClass)
+	{
+		countersOf(enumClass).misses.increment();
+	}
+
+	@Override
+	public void caseInsensitiveFallback(Class<?> enumClass)
+	{
+		countersOf(enumClass).caseInsensitiveFallbacks.increment();
+	}
+
+	@Override
+	public void normalizedFallback(Class<?> enumClass)
+	{
+		countersOf(enumClass).normalizedFallbacks.increment();
+	}
+
+	@Override
+	public void serialize(Class<?> enumClass, Projection projection)
+	{
+		countersOf(enumClass).serializes[projection.ordinal()].increment();
+	}
+
+	@Override
+	public void serialize(Class<?> enumClass, Projection projection, int count)
+	{
+		countersOf(enumClass).serializes[projection.ordinal()].add(count);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Every counter of every enum class counted since the last reset, sorted by key.
+	 -------------------------------------------------------------------------------------------*/
+	public SortedMap<String, Long> snapshot()
+	{
+		SortedMap<String, Long> result = new TreeMap<>();
+
+		for (Map.Entry<String, Counters> entry : byName.entrySet()) {
+			String prefix = entry.getKey() + '.';
+			Counters count = entry.getValue();
+
+			if (count.total() > 0) {
+				for (Projection projection : PROJECTIONS) {
+					result.put(prefix + "lookup." + projection.name(), count.lookups[projection.ordinal()].sum());
+					result.put(prefix + "serialize." + projection.name(), count.serializes[projection.ordinal()].sum());
+				}
+				result.put(prefix + "miss", count.misses.sum());
+				result.put(prefix + "caseInsensitiveFallback", count.caseInsensitiveFallbacks.sum());
+				result.put(prefix + "normalizedFallback", count.normalizedFallbacks.sum());
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Totals over every enum class and Projection.
+	 -------------------------------------------------------------------------------------------*/
+	public long lookupCount()
+	{
+		long result = 0;
+
+		for (Counters count : byName.values()) {
+			for (LongAdder lookups : count.lookups) {
+				result += lookups.sum();
+			}
+		}
+
+		return result;
+	}
+
+	public long missCount()
+	{
+		long result = 0;
+
+		for (Counters count : byName.values()) {
+			result += count.misses.sum();
+		}
+
+		return result;
+	}
+
+	public long caseInsensitiveFallbackCount()
+	{
+		long result = 0;
+
+		for (Counters count : byName.values()) {
+			result += count.caseInsensitiveFallbacks.sum();
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Sets every counter back to zero. Calls counted while resetting may be lost.
+	 -------------------------------------------------------------------------------------------*/
+	public void reset()
+	{
+		for (Counters count : byName.values()) {
+			count.reset();
+		}
+	}
+
+	private Counters countersOf(Class<?> enumClass)
+	{
+		return counters.get(enumClass);
+	}
+}
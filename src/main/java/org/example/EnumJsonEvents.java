@@ -0,0 +1,157 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonEvents
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonEvents holds the Java Flight Recorder events of the enum codecs, in the EnumJson category.
+
+		TableBuild   the deserialization tables or serialization outputs of an enum were built
+		LookupMiss   a json value matched no constant, its policy tells what it was read as
+		SlowLookup   a read took longer than the threshold, 1 ms unless the recording sets one
+
+	Every event is disabled by default, a recording enables them by name, E.g. with a .jfc file
+		<event name="org.example.EnumJson.LookupMiss"><setting name="enabled">true</setting></event>
+	A disabled event costs a check of its enabled flag, a miss doesn't even create the event.
+
+	Timing every read for SlowLookup needs the reads to be timed even when no recording wants the
+	event, so it is also off unless the JVM is started with
+		-Dorg.example.enumjson.slowLookupEvents=true
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import org.example.EnumJson.UnknownValue;
+
+final class EnumJsonEvents
+{
+
+	static final String SLOW_LOOKUP_PROPERTY = "org.example.enumjson.slowLookupEvents";
+
+	//Read once, so a JVM without the property never times a read.
+	static final boolean SLOW_LOOKUP_TIMED = Boolean.getBoolean(SLOW_LOOKUP_PROPERTY);
+
+	//Longer json values are cut, a bogus payload doesn't bloat the recording.
+	static final int MAX_VALUE_LENGTH = 64;
+
+	private EnumJsonEvents()
+	{
+	}
+
+	@Name("org.example.EnumJson.TableBuild")
+	@Label("Enum Table Build")
+	@Description("The deserialization tables or serialization outputs of an enum were built")
+	@Category("EnumJson")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class TableBuild extends Event
+	{
+
+		@Label("Enum Class")
+		Class<?> enumClass;
+
+		@Label("Table")
+		@Description("lookup for the deserialization tables, encodings for the serialization outputs")
+		String table;
+
+		@Label("Entries")
+		int entries;
+	}
+
+	@Name("org.example.EnumJson.LookupMiss")
+	@Label("Enum Lookup Miss")
+	@Description("A json value matched no enum constant")
+	@Category("EnumJson")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class LookupMiss extends Event
+	{
+
+		@Label("Enum Class")
+		Class<?> enumClass;
+
+		@Label("Value")
+		String value;
+
+		@Label("Truncated")
+		boolean truncated;
+
+		@Label("Unknown Value Policy")
+		@Description("What the miss produced, NULL or DEFAULT read that constant, FAIL threw UnknownEnumValueException")
+		String policy;
+	}
+
+	@Name("org.example.EnumJson.SlowLookup")
+	@Label("Slow Enum Lookup")
+	@Description("Reading an enum took longer than the threshold, needs -D" + SLOW_LOOKUP_PROPERTY + "=true")
+	@Category("EnumJson")
+	@Enabled(false)
+	@StackTrace(false)
+	@Threshold("1 ms")
+	static final class SlowLookup extends Event
+	{
+
+		@Label("Enum Class")
+		Class<?> enumClass;
+
+		@Label("Value")
+		String value;
+
+		@Label("Found")
+		boolean found;
+	}
+
+	//Checked before a LookupMiss is created, the miss path doesn't allocate while nothing records it.
+	//A holder, so the event type is only registered with JFR on the first miss.
+	private static final class LookupMissType
+	{
+
+		private static final EventType TYPE = EventType.getEventType(LookupMiss.class);
+	}
+
+	static void lookupMiss(Class<?> enumClass, UnknownValue policy, char[] chars, int offset, int length)
+	{
+		if (LookupMissType.TYPE.isEnabled()) {
+			LookupMiss event = new LookupMiss();
+			event.enumClass = enumClass;
+			event.value = new String(chars, offset, Math.min(length, MAX_VALUE_LENGTH));
+			event.truncated = (length > MAX_VALUE_LENGTH);
+			event.policy = policy.name();
+			event.commit();
+		}
+	}
+
+	static void lookupMiss(Class<?> enumClass, UnknownValue policy, long jsonValue)
+	{
+		if (LookupMissType.TYPE.isEnabled()) {
+			LookupMiss event = new LookupMiss();
+			event.enumClass = enumClass;
+			event.value = Long.toString(jsonValue);
+			event.policy = policy.name();
+			event.commit();
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Cuts value to MAX_VALUE_LENGTH characters.
+	 -------------------------------------------------------------------------------------------*/
+	static String truncate(String value)
+	{
+		String result = value;
+
+		if ((null != value) && (value.length() > MAX_VALUE_LENGTH)) {
+			result = value.substring(0, MAX_VALUE_LENGTH);
+		}
+
+		return result;
+	}
+}
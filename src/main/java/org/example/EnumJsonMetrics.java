@@ -0,0 +1,94 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonMetrics
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonMetrics is told about every enum EnumerationDeserializer reads and
+	EnumerationSerializer writes, once installed. Metrics are off until a listener is installed,
+	then each call costs one volatile read and the listener's own work.
+
+	The listener is called on the reading and writing threads, so it must be thread safe and
+	should not block. EnumJsonCounters counts every call with LongAdders and
+	EnumJsonMetricsJmx exposes its counts through JMX.
+
+		EnumJsonCounters counters = new EnumJsonCounters();
+		EnumJsonMetrics.install(counters);
+		EnumJsonMetricsJmx.register(counters);
+
+	Every method does nothing by default, a listener overrides the calls it wants.
+ */
+
+import org.example.EnumJson.Projection;
+
+public abstract class EnumJsonMetrics
+{
+
+	private static volatile EnumJsonMetrics installed = null;
+
+	/*-------------------------------------------------------------------------------------------
+		Installs the listener for every reader and writer, null turns metrics off.
+	 -------------------------------------------------------------------------------------------*/
+	public static void install(EnumJsonMetrics metrics)
+	{
+		installed = metrics;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The installed listener, null when metrics are off.
+	 -------------------------------------------------------------------------------------------*/
+	public static EnumJsonMetrics installed()
+	{
+		return installed;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A json value found a constant of enumClass, matched is the Projection that found it.
+	 -------------------------------------------------------------------------------------------*/
+	public void lookup(Class<?> enumClass, Projection matched)
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A json value found no constant of enumClass, the deserializer returned null.
+	 -------------------------------------------------------------------------------------------*/
+	public void miss(Class<?> enumClass)
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A json value only found a constant of enumClass ignoring case, E.g. Exact for EXACT.
+		Also counted as a lookup.
+	 -------------------------------------------------------------------------------------------*/
+	public void caseInsensitiveFallback(Class<?> enumClass)
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A json value only found a constant of enumClass once normalized, E.g. wild-card for WILDCARD.
+		Also counted as a lookup.
+	 -------------------------------------------------------------------------------------------*/
+	public void normalizedFallback(Class<?> enumClass)
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A constant of enumClass was written with the Projection.
+	 -------------------------------------------------------------------------------------------*/
+	public void serialize(Class<?> enumClass, Projection projection)
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		count constants of enumClass were written with the Projection, E.g. a List property.
+		Calls serialize count times unless overridden.
+	 -------------------------------------------------------------------------------------------*/
+	public void serialize(Class<?> enumClass, Projection projection, int count)
+	{
+		for (int i = 0; i < count; i++) {
+			serialize(enumClass, projection);
+		}
+	}
+}
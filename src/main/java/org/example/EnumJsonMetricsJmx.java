@@ -0,0 +1,91 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonMetricsJmx
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonMetricsJmx exposes the counts of an EnumJsonCounters as an MXBean on the platform
+	MBean server, under OBJECT_NAME. The snapshot is read when a JMX client asks for it,
+	nothing is collected in between.
+
+		EnumJsonMetricsJmx.register(counters);
+		...
+		EnumJsonMetricsJmx.unregister();
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public final class EnumJsonMetricsJmx implements EnumJsonMetricsMXBean
+{
+
+	public static final String OBJECT_NAME = "org.example:type=EnumJsonMetrics";
+
+	private final EnumJsonCounters counters;
+
+	public EnumJsonMetricsJmx(EnumJsonCounters counters)
+	{
+		this.counters = counters;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Registers the counters under OBJECT_NAME, replacing any counters registered before.
+	 -------------------------------------------------------------------------------------------*/
+	public static ObjectName register(EnumJsonCounters counters) throws JMException
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName result = new ObjectName(OBJECT_NAME);
+
+		if (server.isRegistered(result)) {
+			server.unregisterMBean(result);
+		}
+		server.registerMBean(new EnumJsonMetricsJmx(counters), result);
+
+		return result;
+	}
+
+	public static void unregister() throws JMException
+	{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+	}
+
+	@Override
+	public Map<String, Long> getSnapshot()
+	{
+		return counters.snapshot();
+	}
+
+	@Override
+	public long getLookupCount()
+	{
+		return counters.lookupCount();
+	}
+
+	@Override
+	public long getMissCount()
+	{
+		return counters.missCount();
+	}
+
+	@Override
+	public long getCaseInsensitiveFallbackCount()
+	{
+		return counters.caseInsensitiveFallbackCount();
+	}
+
+	@Override
+	public void reset()
+	{
+		counters.reset();
+	}
+}
@@ -0,0 +1,29 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonMetricsMXBean
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	The JMX view of EnumJsonCounters, see EnumJsonMetricsJmx.
+ */
+
+import java.util.Map;
+
+public interface EnumJsonMetricsMXBean
+{
+
+	/*-------------------------------------------------------------------------------------------
+		See EnumJsonCounters.snapshot.
+	 -------------------------------------------------------------------------------------------*/
+	Map<String, Long> getSnapshot();
+
+	long getLookupCount();
+
+	long getMissCount();
+
+	long getCaseInsensitiveFallbackCount();
+
+	void reset();
+}
@@ -0,0 +1,250 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonModule
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonModule serializes and deserializes every enum annotated with EnumJson,
+	without JsonSerialize and JsonDeserialize annotations or a Deserializer subclass per enum.
+
+		ObjectMapper mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+
+	The serializer and deserializers come from EnumMetadata, so every ObjectMapper shares
+	one instance per enum class and effective annotation.
+
+	A Set of an annotated enum is written by EnumSetSerializer and read into an EnumSet by
+	EnumSetDeserializer, so the BITMASK Projection works for Set properties too.
+	Other Collections and arrays are written and read in one pass by EnumCollectionSerializer,
+	EnumArraySerializer, EnumCollectionDeserializer and EnumArrayDeserializer.
+	Map keys are written by EnumKeySerializer and read by EnumKeyDeserializer, a Map an EnumMap
+	can be assigned to is read into an EnumMap by EnumMapDeserializer.
+
+	A JsonSerialize or JsonDeserialize annotation on the enum or the property still wins.
+	Enums without an EnumJson annotation are left to Jackson.
+ */
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.KeyDeserializers;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import com.fasterxml.jackson.databind.type.MapType;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Set;
+
+public class EnumJsonModule extends Module
+{
+
+	@Override
+	public String getModuleName()
+	{
+		return EnumJsonModule.class.getSimpleName();
+	}
+
+	@Override
+	public Version version()
+	{
+		return Version.unknownVersion();
+	}
+
+	@Override
+	public void setupModule(SetupContext context)
+	{
+		context.addSerializers(new EnumJsonSerializers());
+		context.addDeserializers(new EnumJsonDeserializers());
+		context.addKeySerializers(new EnumJsonKeySerializers());
+		context.addKeyDeserializers(new EnumJsonKeyDeserializers());
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The metadata of an enum with an EnumJson annotation, otherwise null.
+		A constant with a body is a subclass of its enum, its enum is used.
+	 -------------------------------------------------------------------------------------------*/
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static EnumMetadata<?> annotatedMetadata(Class<?> type)
+	{
+		EnumMetadata<?> result = null;
+
+		Class<?> enumClass = type;
+		if ((null != enumClass) && (!enumClass.isEnum()) && (null != enumClass.getSuperclass()) && (enumClass.getSuperclass().isEnum())) {
+			enumClass = enumClass.getSuperclass();
+		}
+
+		if ((null != enumClass) && (enumClass.isEnum())) {
+			EnumMetadata<?> metadata = EnumMetadata.of((Class) enumClass);
+			if (null != metadata.getClassAnnotation()) {
+				result = metadata;
+			}
+		}
+
+		return result;
+	}
+
+	private static final class EnumJsonSerializers extends Serializers.Base
+	{
+
+		@Override
+		public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc)
+		{
+			JsonSerializer<?> result = null;
+
+			EnumMetadata<?> metadata = annotatedMetadata(type.getRawClass());
+			if (null != metadata) {
+				result = metadata.getSerializer();
+			}
+
+			return result;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		public JsonSerializer<?> findCollectionSerializer(SerializationConfig config, CollectionType type, BeanDescription beanDesc,
+			TypeSerializer elementTypeSerializer, JsonSerializer<Object> elementValueSerializer)
+		{
+			JsonSerializer<?> result = null;
+
+			if ((null == elementTypeSerializer) && (null == elementValueSerializer)) {
+				EnumMetadata<?> metadata = annotatedMetadata(type.getContentType().getRawClass());
+				if ((null != metadata) && (Set.class.isAssignableFrom(type.getRawClass()))) {
+					result = new EnumSetSerializer(metadata.getEnumClass(), null);
+				}
+				else if (null != metadata) {
+					result = new EnumCollectionSerializer(metadata.getEnumClass(), null);
+				}
+			}
+
+			return result;
+		}
+
+		@Override
+		public JsonSerializer<?> findArraySerializer(SerializationConfig config, ArrayType type, BeanDescription beanDesc,
+			TypeSerializer elementTypeSerializer, JsonSerializer<Object> elementValueSerializer)
+		{
+			JsonSerializer<?> result = null;
+
+			if ((null == elementTypeSerializer) && (null == elementValueSerializer) && (type.getContentType().isEnumType())
+				&& (null != annotatedMetadata(type.getContentType().getRawClass()))) {
+				result = new EnumArraySerializer<>();
+			}
+
+			return result;
+		}
+	}
+
+	private static final class EnumJsonDeserializers extends Deserializers.Base
+	{
+
+		@Override
+		public JsonDeserializer<?> findEnumDeserializer(Class<?> type, DeserializationConfig config, BeanDescription beanDesc)
+		{
+			JsonDeserializer<?> result = null;
+
+			EnumMetadata<?> metadata = annotatedMetadata(type);
+			if (null != metadata) {
+				result = metadata.getDeserializer(metadata.getClassAnnotation());
+			}
+
+			return result;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		public JsonDeserializer<?> findCollectionDeserializer(CollectionType type, DeserializationConfig config, BeanDescription beanDesc,
+			TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer)
+		{
+			JsonDeserializer<?> result = null;
+
+			if ((null == elementTypeDeserializer) && (null == elementDeserializer)) {
+				Class<?> raw = type.getRawClass();
+				EnumMetadata<?> metadata = annotatedMetadata(type.getContentType().getRawClass());
+				if ((null != metadata) && (Set.class.isAssignableFrom(raw)) && (raw.isAssignableFrom(EnumSet.class))) {
+					result = new EnumSetDeserializer(metadata.getEnumClass());
+				}
+				else if ((null != metadata) && (!Set.class.isAssignableFrom(raw)) && (raw.isAssignableFrom(ArrayList.class))) {
+					//List, Collection or ArrayList, a concrete type other than ArrayList is left to Jackson
+					result = new EnumCollectionDeserializer(metadata.getEnumClass());
+				}
+			}
+
+			return result;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		public JsonDeserializer<?> findArrayDeserializer(ArrayType type, DeserializationConfig config, BeanDescription beanDesc,
+			TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer)
+		{
+			JsonDeserializer<?> result = null;
+
+			if ((null == elementTypeDeserializer) && (null == elementDeserializer) && (type.getContentType().isEnumType())) {
+				EnumMetadata<?> metadata = annotatedMetadata(type.getContentType().getRawClass());
+				if (null != metadata) {
+					result = new EnumArrayDeserializer(metadata.getEnumClass());
+				}
+			}
+
+			return result;
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		public JsonDeserializer<?> findMapDeserializer(MapType type, DeserializationConfig config, BeanDescription beanDesc,
+			KeyDeserializer keyDeserializer, TypeDeserializer elementTypeDeserializer, JsonDeserializer<?> elementDeserializer)
+		{
+			JsonDeserializer<?> result = null;
+
+			//A HashMap, TreeMap, etc. is left to Jackson, with EnumKeyDeserializer for its keys.
+			if ((null == keyDeserializer) && (type.getRawClass().isAssignableFrom(EnumMap.class))
+				&& (null != annotatedMetadata(type.getKeyType().getRawClass()))) {
+				result = new EnumMapDeserializer(type, elementDeserializer, elementTypeDeserializer);
+			}
+
+			return result;
+		}
+	}
+
+	private static final class EnumJsonKeySerializers extends Serializers.Base
+	{
+
+		private static final EnumKeySerializer<?> KEY_SERIALIZER = new EnumKeySerializer<>();
+
+		@Override
+		public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc)
+		{
+			return (null != annotatedMetadata(type.getRawClass())) ? KEY_SERIALIZER : null;
+		}
+	}
+
+	private static final class EnumJsonKeyDeserializers implements KeyDeserializers
+	{
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		public KeyDeserializer findKeyDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc)
+		{
+			KeyDeserializer result = null;
+
+			EnumMetadata<?> metadata = annotatedMetadata(type.getRawClass());
+			if (null != metadata) {
+				result = new EnumKeyDeserializer(metadata.getEnumClass());
+			}
+
+			return result;
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonWarmup
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonWarmup prepares EnumJson enums before a service takes traffic, so the first
+	request that reads or writes an enum doesn't build its tables.
+
+	For each enum it loads the class and its generated codec, builds the lookup tables and the
+	pre encoded outputs, and creates the shared serializer and deserializer.
+
+	The enums come from
+		the index EnumJsonProcessor writes at build time, see INDEX_RESOURCE
+		a scan of packages on the classpath, which reads class files without loading them
+		a list of classes
+	Preparing the enums in parallel uses the common ForkJoinPool.
+
+		EnumJsonWarmup.Report report = EnumJsonWarmup.warmIndexed(getClass().getClassLoader(), true);
+		log.info(report.toString());
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+
+public final class EnumJsonWarmup
+{
+
+	//One binary class name per line, written by EnumJsonProcessor
+	public static final String INDEX_RESOURCE = "META-INF/org.example.EnumJson.index";
+
+	private EnumJsonWarmup()
+	{
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Prepares the enums listed in every index resource the class loader can see.
+	 -------------------------------------------------------------------------------------------*/
+	public static Report warmIndexed(ClassLoader classLoader, boolean parallel)
+	{
+		long start = System.nanoTime();
+
+		Set<String> classNames = new LinkedHashSet<>();
+		try {
+			Enumeration<URL> indexes = classLoader.getResources(INDEX_RESOURCE);
+			while (indexes.hasMoreElements()) {
+				readIndex(indexes.nextElement(), classNames);
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException("Unable to read " + INDEX_RESOURCE, e);
+		}
+
+		return warmNames(classNames, classLoader, parallel, start);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Prepares the EnumJson enums in the packages and their sub packages.
+		Class files are read without loading the classes, only EnumJson enums are loaded.
+	 -------------------------------------------------------------------------------------------*/
+	public static Report warmPackages(ClassLoader classLoader, boolean parallel, String... packageNames)
+	{
+		long start = System.nanoTime();
+
+		ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+		MetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(resolver);
+
+		Set<String> classNames = new LinkedHashSet<>();
+		for (String packageName : packageNames) {
+			String pattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + ClassUtils.convertClassNameToResourcePath(packageName) + "/**/*.class";
+			try {
+				for (Resource resource : resolver.getResources(pattern)) {
+					if (resource.isReadable()) {
+						MetadataReader reader = readerFactory.getMetadataReader(resource);
+						AnnotationMetadata metadata = reader.getAnnotationMetadata();
+						if ((Enum.class.getName().equals(metadata.getSuperClassName())) && (metadata.isAnnotated(EnumJson.class.getName()))) {
+							classNames.add(metadata.getClassName());
+						}
+					}
+				}
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("Unable to scan package " + packageName, e);
+			}
+		}
+
+		return warmNames(classNames, classLoader, parallel, start);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Prepares the enums. Classes that aren't enums are skipped and not counted.
+	 -------------------------------------------------------------------------------------------*/
+	public static Report warm(Collection<Class<?>> enumClasses, boolean parallel)
+	{
+		long start = System.nanoTime();
+
+		Collection<String> failures = new ConcurrentLinkedQueue<>();
+		long count = stream(enumClasses, parallel).filter(Class::isEnum)
+		                                          .filter(enumClass -> prepare(enumClass, failures))
+		                                          .count();
+
+		return new Report(count, Duration.ofNanos(System.nanoTime() - start), failures);
+	}
+
+	private static Report warmNames(Collection<String> classNames, ClassLoader classLoader, boolean parallel, long start)
+	{
+		Collection<String> failures = new ConcurrentLinkedQueue<>();
+		long count = stream(classNames, parallel).filter(className -> prepare(className, classLoader, failures))
+		                                         .count();
+
+		return new Report(count, Duration.ofNanos(System.nanoTime() - start), failures);
+	}
+
+	private static <E> Stream<E> stream(Collection<E> elements, boolean parallel)
+	{
+		return (parallel) ? elements.parallelStream() : elements.stream();
+	}
+
+	private static boolean prepare(String className, ClassLoader classLoader, Collection<String> failures)
+	{
+		boolean result = false;
+
+		try {
+			Class<?> enumClass = Class.forName(className, true, classLoader);
+			if (enumClass.isEnum()) {
+				result = prepare(enumClass, failures);
+			}
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			failures.add(className + ": " + e);
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static boolean prepare(Class<?> enumClass, Collection<String> failures)
+	{
+		boolean result = false;
+
+		try {
+			EnumMetadata<?> metadata = EnumMetadata.of((Class) enumClass);
+			metadata.getLookup();
+			metadata.getEncodings();
+			metadata.getSerializer();
+			metadata.getDeserializer(metadata.getClassAnnotation());
+			result = true;
+		}
+		catch (RuntimeException | LinkageError e) {
+			failures.add(enumClass.getName() + ": " + e);
+		}
+
+		return result;
+	}
+
+	private static void readIndex(URL index, Set<String> classNames) throws IOException
+	{
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while (null != (line = reader.readLine())) {
+				line = line.trim();
+				if ((!line.isEmpty()) && (!line.startsWith("#"))) {
+					classNames.add(line);
+				}
+			}
+		}
+	}
+
+	public static final class Report
+	{
+
+		private final long enumCount;
+		private final Duration duration;
+		private final List<String> failures;
+
+		Report(long enumCount, Duration duration, Collection<String> failures)
+		{
+			this.enumCount = enumCount;
+			this.duration = duration;
+			this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+		}
+
+		/*-------------------------------------------------------------------------------------------
+			The number of enums that were prepared.
+		 -------------------------------------------------------------------------------------------*/
+		public long getEnumCount()
+		{
+			return enumCount;
+		}
+
+		public Duration getDuration()
+		{
+			return duration;
+		}
+
+		/*-------------------------------------------------------------------------------------------
+			A description of every class that couldn't be loaded or prepared.
+		 -------------------------------------------------------------------------------------------*/
+		public List<String> getFailures()
+		{
+			return failures;
+		}
+
+		@Override
+		public String toString()
+		{
+			return "Prepared " + enumCount + " EnumJson enums in " + duration.toMillis() + " ms" +
+			       ((failures.isEmpty()) ? "" : ", " + failures.size() + " failed " + failures);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumKeyDeserializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumKeyDeserializer reads an enum map key with the tables of EnumerationDeserializer, so a key
+	is found by name, alias, value or ordinal the way a json string is, instead of Jackson's valueOf.
+
+	It is used by Jackson's own map deserializers, E.g. for a HashMap<SomeDays, Price>.
+	A Map or EnumMap property is read by EnumMapDeserializer, which doesn't need the key String.
+
+	The case insensitivity, normalization and unknown value policy are those of the effective
+	annotation, an EnumJson annotation on the map property has priority over the enum class
+	annotation. A key read as null is a null key.
+ */
+
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualKeyDeserializer;
+import java.io.IOException;
+
+public class EnumKeyDeserializer<T extends Enum<T>> extends KeyDeserializer implements ContextualKeyDeserializer
+{
+
+	private final EnumMetadata<T> metadata;
+	private final EnumerationDeserializer<T> keys;
+
+	public EnumKeyDeserializer(Class<T> enumClass)
+	{
+		this(EnumMetadata.of(enumClass), null);
+	}
+
+	private EnumKeyDeserializer(EnumMetadata<T> metadata, EnumJson fieldAnnotation)
+	{
+		this.metadata = metadata;
+		this.keys = metadata.getDeserializer((null != fieldAnnotation) ? fieldAnnotation : metadata.getClassAnnotation());
+	}
+
+	@Override
+	public KeyDeserializer createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException
+	{
+		KeyDeserializer result = this;
+
+		EnumJson fieldAnnotation = (null != property) ? property.getAnnotation(EnumJson.class) : null;
+		if (null != fieldAnnotation) {
+			result = new EnumKeyDeserializer<>(metadata, fieldAnnotation);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Object deserializeKey(String key, DeserializationContext ctxt) throws IOException
+	{
+		return keys.deserializeKey(key);
+	}
+}
@@ -0,0 +1,58 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumKeyIndex
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumKeyIndex maps the json keys of an enum (names, aliases and values) to ordinals.
+	Implementations are immutable once built and safe to share between threads.
+ */
+
+import org.example.EnumJson.Lookup;
+
+interface EnumKeyIndex
+{
+
+	int NOT_FOUND = -1;
+
+	/*-------------------------------------------------------------------------------------------
+		Returns the ordinal the key maps to, or NOT_FOUND.
+	 -------------------------------------------------------------------------------------------*/
+	int ordinalOf(String key);
+
+	/*-------------------------------------------------------------------------------------------
+		Same as ordinalOf(String) for the key held in chars[offset, offset + length),
+		e.g. the text buffer of a JsonParser. No String is created.
+	 -------------------------------------------------------------------------------------------*/
+	int ordinalOf(char[] chars, int offset, int length);
+
+	/*-------------------------------------------------------------------------------------------
+		keys[i] maps to ordinals[i]. Keys must be distinct.
+	 -------------------------------------------------------------------------------------------*/
+	static EnumKeyIndex of(String[] keys, int[] ordinals, Lookup lookup)
+	{
+		EnumKeyIndex result;
+
+		if (lookup == Lookup.PERFECT_HASH) {
+			result = PerfectHashKeyIndex.build(keys, ordinals);
+		}
+		else {
+			result = new HashKeyIndex(keys, ordinals);
+		}
+
+		return result;
+	}
+
+	static boolean matches(String key, char[] chars, int offset, int length)
+	{
+		boolean result = (key.length() == length);
+
+		for (int i = 0; (result) && (i < length); i++) {
+			result = (key.charAt(i) == chars[offset + i]);
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,95 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumKeyNormalizer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumKeyNormalizer maps the spellings of a key clients send to one form, E.g. "wild-card",
+	" WILDCARD " and "Wild_Card" to "wildcard".
+
+	Every name, alias and value of an enum is normalized once when its table is built. A json
+	value that matches no key exactly is normalized in one pass from the parser's buffer into a
+	reused buffer and looked up in that table, so lenient matching is one more probe.
+
+	The normalized form may be shorter than the input, never longer. An implementation must be
+	thread safe and should not allocate. A custom normalizer is named by
+	EnumJson.deserializationNormalizer and needs a no argument constructor.
+ */
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.EnumSet;
+import java.util.Set;
+import org.example.EnumJson.Normalization;
+
+public interface EnumKeyNormalizer
+{
+
+	/*-------------------------------------------------------------------------------------------
+		Writes the normalized form of chars[offset, offset + length) to buffer[0, result).
+		buffer holds at least length characters.
+	 -------------------------------------------------------------------------------------------*/
+	int normalize(char[] chars, int offset, int length, char[] buffer);
+
+	/*-------------------------------------------------------------------------------------------
+		The normalizer of an EnumJson annotation, null if it has none.
+		A deserializationNormalizer class is used instead of deserializationNormalization.
+	 -------------------------------------------------------------------------------------------*/
+	static EnumKeyNormalizer of(EnumJson annotation)
+	{
+		EnumKeyNormalizer result = null;
+
+		if (null != annotation) {
+			Class<?> type = annotation.deserializationNormalizer();
+
+			if (!Void.class.equals(type)) {
+				if (!EnumKeyNormalizer.class.isAssignableFrom(type)) {
+					throw new IllegalArgumentException("deserializationNormalizer " + type.getName() + " is not an EnumKeyNormalizer");
+				}
+				result = create(type);
+			}
+			else if (annotation.deserializationNormalization().length > 0) {
+				Set<Normalization> normalizations = EnumSet.noneOf(Normalization.class);
+				for (Normalization normalization : annotation.deserializationNormalization()) {
+					normalizations.add(normalization);
+				}
+				result = new StandardKeyNormalizer(normalizations);
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Calls the no argument constructor of type, through a private lookup as EnumFieldAccessor
+		reads fields, so no accessibility check is suppressed.
+	 -------------------------------------------------------------------------------------------*/
+	private static EnumKeyNormalizer create(Class<?> type)
+	{
+		EnumKeyNormalizer result;
+		MethodType noArguments = MethodType.methodType(void.class);
+
+		try {
+			MethodHandle constructor;
+			try {
+				constructor = MethodHandles.privateLookupIn(type, MethodHandles.lookup()).findConstructor(type, noArguments);
+			}
+			catch (IllegalAccessException ignored) {
+				//Not open to this library, try again with the access this library already has.
+				constructor = MethodHandles.lookup().findConstructor(type, noArguments);
+			}
+			result = (EnumKeyNormalizer) constructor.invoke();
+		}
+		catch (RuntimeException | Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw new IllegalArgumentException("deserializationNormalizer " + type.getName() + " can't be created", e);
+		}
+
+		return result;
+	}
+}
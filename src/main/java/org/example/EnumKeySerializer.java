@@ -0,0 +1,78 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumKeySerializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumKeySerializer writes an enum map key, E.g. of a Map<SomeDays, Price> or an EnumMap,
+	with the Projection of the enum instead of Jackson's name.
+
+	Keys are encoded once per constant and Projection, see EnumEncodings.writeKey, so writing a key
+	is a single writeFieldName of a SerializedString. A number is written as its digits.
+
+	As with EnumerationSerializer, an EnumJson annotation on the map property takes priority over
+	the enum class annotation. EnumJsonModule uses it for the keys of every EnumJson enum.
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.example.EnumJson.Projection;
+
+public class EnumKeySerializer<T extends Enum<T>> extends StdSerializer<Enum<T>> implements ContextualSerializer
+{
+
+	private static final long serialVersionUID = 1L;
+
+	//The Projection of the map property being serialized, null to use the enum class annotation.
+	private final Projection projection;
+
+	public EnumKeySerializer()
+	{
+		this(null);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected EnumKeySerializer(Projection projection)
+	{
+		super((Class) Enum.class);
+		this.projection = projection;
+	}
+
+	@Override
+	public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+	{
+		JsonSerializer<?> result = this;
+
+		if (null != property) {
+			EnumJson fieldAnnotation = property.getAnnotation(EnumJson.class);
+			if ((null != fieldAnnotation) && (fieldAnnotation.serializeProjection() != projection)) {
+				result = new EnumKeySerializer<T>(fieldAnnotation.serializeProjection());
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public void serialize(Enum<T> value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		EnumMetadata<T> metadata = EnumMetadata.of(value.getDeclaringClass());
+
+		//Field annotation has priority over class annotation
+		Projection effective = (null != projection) ? projection : metadata.getSerializeProjection();
+
+		metadata.getEncodings().writeKey(value, effective, gen);
+
+		EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+		if (null != metrics) {
+			metrics.serialize(metadata.getEnumClass(), effective);
+		}
+	}
+}
@@ -0,0 +1,586 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumLookup
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumLookup holds the deserialization tables of one enum class.
+
+	The precedence of the four matches is resolved when the tables are built:
+		1) enum.name
+		2) the ALIAS field
+		3) the VALUE field
+		4) enum.ordinal
+	A name wins over an alias or value with the same text, and an alias wins over a value.
+
+	A json value made only of digits never matches a name, and only matches an alias or value
+	if that field can hold a digit (String, int, long, Integer, Long). Otherwise it is an ordinal.
+	Keys that could only be reached by such a json value are left out of the tables.
+ */
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.example.EnumJson.Lookup;
+import org.example.EnumJson.Projection;
+
+final class EnumLookup<T extends Enum<T>>
+{
+
+	private final T[] constants;
+	private final EnumJsonCodec<T> codec;
+	//Replaced by a generated index once KeySwitchGenerator has one, see KeySwitchGenerator.
+	private volatile EnumKeyIndex exact;
+	private volatile EnumKeyIndex folded;
+	private final LongKeyIndex integral;
+
+	//The ALIAS and VALUE key of each constant by ordinal, null if it has none in the tables.
+	//Only read to tell which Projection a json value matched, see projectionOf.
+	private final String[] aliasKeys;
+	private final String[] valueKeys;
+
+	private final int size;
+	private final Lookup mode;
+
+	//The longest folded key, a longer json value can't match ignoring case.
+	private final int maxFoldedLength;
+
+	//Holds the fold or normalized form of a json value, grown to the longest one seen per thread.
+	private static final ThreadLocal<char[]> KEY_BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+	/*-------------------------------------------------------------------------------------------
+		The keys normalized by one EnumKeyNormalizer, see normalized.
+	 -------------------------------------------------------------------------------------------*/
+	static final class Normalized
+	{
+
+		private final EnumKeyNormalizer normalizer;
+		private final EnumKeyIndex index;
+
+		//The normalized NAME, ALIAS and VALUE key of each constant by ordinal, see projectionOf.
+		private final String[] nameKeys;
+		private final String[] aliasKeys;
+		private final String[] valueKeys;
+
+		private Normalized(EnumKeyNormalizer normalizer, EnumKeyIndex index, String[] nameKeys, String[] aliasKeys, String[] valueKeys)
+		{
+			this.normalizer = normalizer;
+			this.index = index;
+			this.nameKeys = nameKeys;
+			this.aliasKeys = aliasKeys;
+			this.valueKeys = valueKeys;
+		}
+	}
+
+	EnumLookup(EnumMetadata<T> metadata)
+	{
+		constants = metadata.getConstants();
+		codec = metadata.getCodec();
+
+		Map<String, T> keys = new LinkedHashMap<>();
+		for (T constant : constants) {
+			keys.putIfAbsent(constant.name(), constant);
+		}
+		aliasKeys = putFieldKeys(keys, metadata.getAliasField());
+		valueKeys = putFieldKeys(keys, metadata.getValueField());
+
+		Map<String, T> foldedKeys = new LinkedHashMap<>();
+		for (Map.Entry<String, T> entry : keys.entrySet()) {
+			foldedKeys.putIfAbsent(fold(entry.getKey()), entry.getValue());
+		}
+
+		mode = (null == metadata.getClassAnnotation()) ? Lookup.HASH : metadata.getClassAnnotation().deserializationLookup();
+
+		exact = buildIndex(keys, mode);
+		folded = buildIndex(foldedKeys, mode);
+		integral = buildIntegralIndex(keys);
+		size = keys.size();
+
+		int longest = 0;
+		for (String key : foldedKeys.keySet()) {
+			longest = Math.max(longest, key.length());
+		}
+		maxFoldedLength = longest;
+
+		if (KeySwitchGenerator.isEnabled()) {
+			KeySwitchGenerator.submit(keys, generated -> exact = generated);
+			KeySwitchGenerator.submit(foldedKeys, generated -> folded = generated);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The number of keys in the tables, names, aliases and values.
+	 -------------------------------------------------------------------------------------------*/
+	int size()
+	{
+		return size;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Finds the constant for an integral json number, E.g. a VALUE_NUMBER_INT token.
+		Gives the same answer as the digits of the number would, without the digits.
+	 -------------------------------------------------------------------------------------------*/
+	T find(long jsonValue)
+	{
+		T result = null;
+
+		int ordinal = integral.ordinalOf(jsonValue);
+
+		if ((EnumKeyIndex.NOT_FOUND == ordinal) && (jsonValue >= 0) && (jsonValue < constants.length)) {
+			//Check if json matches the Ordinal
+			ordinal = (int) jsonValue;
+		}
+
+		if (EnumKeyIndex.NOT_FOUND != ordinal) {
+			result = constants[ordinal];
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Finds the constant for the json value held in chars[offset, offset + length).
+		An exact match always wins over a case insensitive match.
+	 -------------------------------------------------------------------------------------------*/
+	T find(char[] chars, int offset, int length, boolean caseInsensitive)
+	{
+		return find(chars, offset, length, caseInsensitive, null);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		As find, then looks up the normalized json value if nothing else matched.
+	 -------------------------------------------------------------------------------------------*/
+	T find(char[] chars, int offset, int length, boolean caseInsensitive, Normalized normalized)
+	{
+		T result = null;
+		int ordinal = EnumKeyIndex.NOT_FOUND;
+
+		if (null != codec) {
+			//Names have precedence, the generated switch finds them without hashing.
+			ordinal = codec.nameOrdinal(chars, offset, length);
+		}
+
+		if (EnumKeyIndex.NOT_FOUND == ordinal) {
+			ordinal = exact.ordinalOf(chars, offset, length);
+		}
+
+		boolean digits = false;
+		if (EnumKeyIndex.NOT_FOUND == ordinal) {
+			digits = isDigit(chars, offset, length);
+
+			//Digits have no case, the exact table already holds every key made of digits.
+			if ((caseInsensitive) && (!digits)) {
+				ordinal = foldedOrdinalOf(chars, offset, length);
+			}
+
+			//A normalizer may also change digits, E.g. 007 into 7.
+			if ((EnumKeyIndex.NOT_FOUND == ordinal) && (null != normalized)) {
+				char[] buffer = keyBuffer(length);
+				ordinal = normalized.index.ordinalOf(buffer, 0, normalized.normalizer.normalize(chars, offset, length, buffer));
+			}
+		}
+
+		if (EnumKeyIndex.NOT_FOUND != ordinal) {
+			result = constants[ordinal];
+		}
+
+		//-------------------------------------------------------------------------------------------
+		//Check if json matches the Ordinal
+		//Aliases and values made of digits are already in the tables, so they win over the ordinal.
+		if ((null == result) && (digits)) {
+			int index = parseOrdinal(chars, offset, length);
+			if ((index >= 0) && (index < constants.length)) {
+				result = constants[index];
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Builds the table of every key normalized by normalizer, in the precedence of find.
+		Built once for each deserializer that has a normalizer.
+	 -------------------------------------------------------------------------------------------*/
+	Normalized normalized(EnumKeyNormalizer normalizer)
+	{
+		Map<String, T> keys = new LinkedHashMap<>();
+		String[] normalizedNames = new String[constants.length];
+		String[] normalizedAliases = new String[constants.length];
+		String[] normalizedValues = new String[constants.length];
+
+		for (T constant : constants) {
+			normalizedNames[constant.ordinal()] = normalize(normalizer, constant.name());
+			putNormalizedKey(keys, normalizedNames[constant.ordinal()], constant);
+		}
+		for (T constant : constants) {
+			normalizedAliases[constant.ordinal()] = normalize(normalizer, aliasKeys[constant.ordinal()]);
+			putNormalizedKey(keys, normalizedAliases[constant.ordinal()], constant);
+		}
+		for (T constant : constants) {
+			normalizedValues[constant.ordinal()] = normalize(normalizer, valueKeys[constant.ordinal()]);
+			putNormalizedKey(keys, normalizedValues[constant.ordinal()], constant);
+		}
+
+		return new Normalized(normalizer, buildIndex(keys, mode), normalizedNames, normalizedAliases, normalizedValues);
+	}
+
+	private static <T extends Enum<T>> void putNormalizedKey(Map<String, T> keys, String key, T constant)
+	{
+		if ((null != key) && (!key.isEmpty())) {
+			keys.putIfAbsent(key, constant);
+		}
+	}
+
+	private static String normalize(EnumKeyNormalizer normalizer, String key)
+	{
+		String result = null;
+
+		if (null != key) {
+			char[] buffer = new char[key.length()];
+			result = new String(buffer, 0, normalizer.normalize(key.toCharArray(), 0, key.length(), buffer));
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The Projection that found constant for a json value that only matched normalized.
+		Compares the normalized json value with the keys normalized when the table was built.
+	 -------------------------------------------------------------------------------------------*/
+	Projection projectionOf(T constant, char[] chars, int offset, int length, Normalized normalized)
+	{
+		Projection result = null;
+		char[] input = keyBuffer(length);
+		int inputLength = normalized.normalizer.normalize(chars, offset, length, input);
+
+		if (matches(normalized.nameKeys[constant.ordinal()], input, 0, inputLength, false)) {
+			result = Projection.NAME;
+		}
+		else if (matches(normalized.aliasKeys[constant.ordinal()], input, 0, inputLength, false)) {
+			result = Projection.ALIAS;
+		}
+		else if (matches(normalized.valueKeys[constant.ordinal()], input, 0, inputLength, false)) {
+			result = Projection.VALUE;
+		}
+
+		return result;
+	}
+
+	private static char[] keyBuffer(int length)
+	{
+		char[] result = KEY_BUFFER.get();
+
+		if (result.length < length) {
+			result = new char[length];
+			KEY_BUFFER.set(result);
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Looks up the fold of chars[offset, offset + length) in the folded table, without a String.
+	 -------------------------------------------------------------------------------------------*/
+	private int foldedOrdinalOf(char[] chars, int offset, int length)
+	{
+		int result = EnumKeyIndex.NOT_FOUND;
+
+		if (length <= maxFoldedLength) {
+			if (isAsciiFolded(chars, offset, length)) {
+				//Already its own fold, E.g. bright, look it up where it is.
+				result = folded.ordinalOf(chars, offset, length);
+			}
+			else {
+				char[] buffer = keyBuffer(length);
+				fold(chars, offset, length, buffer);
+				result = folded.ordinalOf(buffer, 0, length);
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The Projection that found constant for the json value in chars[offset, offset + length),
+		in the same precedence as find. Null if the json value only matches ignoring case
+		and ignoreCase is false, so a caller can tell a case insensitive fallback.
+	 -------------------------------------------------------------------------------------------*/
+	Projection projectionOf(T constant, char[] chars, int offset, int length, boolean ignoreCase)
+	{
+		Projection result = null;
+
+		if (matches(constant.name(), chars, offset, length, ignoreCase)) {
+			result = Projection.NAME;
+		}
+		else if (matches(aliasKeys[constant.ordinal()], chars, offset, length, ignoreCase)) {
+			result = Projection.ALIAS;
+		}
+		else if (matches(valueKeys[constant.ordinal()], chars, offset, length, ignoreCase)) {
+			result = Projection.VALUE;
+		}
+		else if ((isDigit(chars, offset, length)) && (parseOrdinal(chars, offset, length) == constant.ordinal())) {
+			result = Projection.ORDINAL;
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The Projection that found constant for an integral json number.
+		A name is never the text of a number.
+	 -------------------------------------------------------------------------------------------*/
+	Projection projectionOf(T constant, long jsonValue)
+	{
+		Projection result = Projection.ORDINAL;
+
+		if (matches(aliasKeys[constant.ordinal()], jsonValue)) {
+			result = Projection.ALIAS;
+		}
+		else if (matches(valueKeys[constant.ordinal()], jsonValue)) {
+			result = Projection.VALUE;
+		}
+
+		return result;
+	}
+
+	private static boolean matches(String key, char[] chars, int offset, int length, boolean ignoreCase)
+	{
+		boolean result = false;
+
+		if ((null != key) && (key.length() == length)) {
+			result = true;
+			for (int i = 0; i < length; i++) {
+				char a = key.charAt(i);
+				char b = chars[offset + i];
+				if ((a != b) && ((!ignoreCase) || (foldChar(a) != foldChar(b)))) {
+					result = false;
+					break;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		True if key is the canonical text of jsonValue, compared digit by digit from the end.
+	 -------------------------------------------------------------------------------------------*/
+	private static boolean matches(String key, long jsonValue)
+	{
+		boolean result = (null != key);
+		int index = (null == key) ? 0 : key.length();
+		long rest = jsonValue;
+
+		do {
+			index--;
+			char digit = (char) ('0' + Math.abs(rest % 10));
+			if ((index < 0) || (key.charAt(index) != digit)) {
+				result = false;
+			}
+			rest /= 10;
+		} while ((result) && (rest != 0));
+
+		if (result) {
+			result = (jsonValue < 0) ? ((index == 1) && (key.charAt(0) == '-')) : (index == 0);
+		}
+
+		return result;
+	}
+
+	private static <T extends Enum<T>> EnumKeyIndex buildIndex(Map<String, T> entries, Lookup mode)
+	{
+		String[] keys = new String[entries.size()];
+		int[] ordinals = new int[entries.size()];
+
+		int i = 0;
+		for (Map.Entry<String, T> entry : entries.entrySet()) {
+			keys[i] = entry.getKey();
+			ordinals[i] = entry.getValue().ordinal();
+			i++;
+		}
+
+		return EnumKeyIndex.of(keys, ordinals, mode);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Every key that is the canonical text of a long, E.g. 42 or -1 but not 042 or +1,
+		is also a number a VALUE_NUMBER_INT token can carry.
+	 -------------------------------------------------------------------------------------------*/
+	private static <T extends Enum<T>> LongKeyIndex buildIntegralIndex(Map<String, T> entries)
+	{
+		long[] keys = new long[entries.size()];
+		int[] ordinals = new int[entries.size()];
+
+		int count = 0;
+		for (Map.Entry<String, T> entry : entries.entrySet()) {
+			String key = entry.getKey();
+			if (isCanonicalLong(key)) {
+				keys[count] = Long.parseLong(key);
+				ordinals[count] = entry.getValue().ordinal();
+				count++;
+			}
+		}
+
+		return new LongKeyIndex(Arrays.copyOf(keys, count), Arrays.copyOf(ordinals, count));
+	}
+
+	private static boolean isCanonicalLong(String key)
+	{
+		boolean result = false;
+
+		if ((!key.isEmpty()) && (key.length() <= 20) && ((key.charAt(0) == '-') || isDigit(key))) {
+			try {
+				result = Long.toString(Long.parseLong(key)).equals(key);
+			}
+			catch (NumberFormatException ignored) {
+				//Ignored
+			}
+		}
+
+		return result;
+	}
+
+	private String[] putFieldKeys(Map<String, T> keys, EnumFieldAccessor field)
+	{
+		String[] result = new String[constants.length];
+
+		if (null != field) {
+			boolean canDeserializeDigit = fieldCanDeserializeDigit(field);
+			for (T constant : constants) {
+				Object valueOfField = field.get(constant);
+				if (null != valueOfField) {
+					String key = valueOfField.toString();
+					if ((canDeserializeDigit) || (!isDigit(key))) {
+						keys.putIfAbsent(key, constant);
+						result[constant.ordinal()] = key;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Folds a string the same way String.equalsIgnoreCase compares characters,
+		so two strings are equal ignoring case exactly when their folds are equal.
+	 -------------------------------------------------------------------------------------------*/
+	static String fold(String value)
+	{
+		char[] chars = value.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = foldChar(chars[i]);
+		}
+		return new String(chars);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Folds chars[offset, offset + length) into buffer[0, length), the same way fold does.
+	 -------------------------------------------------------------------------------------------*/
+	static void fold(char[] chars, int offset, int length, char[] buffer)
+	{
+		for (int i = 0; i < length; i++) {
+			buffer[i] = foldChar(chars[offset + i]);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		True if every character is ASCII and none is an upper case letter.
+	 -------------------------------------------------------------------------------------------*/
+	private static boolean isAsciiFolded(char[] chars, int offset, int length)
+	{
+		boolean result = true;
+
+		for (int i = offset; i < offset + length; i++) {
+			char c = chars[i];
+			if ((c >= 0x80) || ((c >= 'A') && (c <= 'Z'))) {
+				result = false;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		ASCII is folded by range check, only other characters go through Character's case tables.
+	 -------------------------------------------------------------------------------------------*/
+	static char foldChar(char c)
+	{
+		char result;
+
+		if (c < 0x80) {
+			result = ((c >= 'A') && (c <= 'Z')) ? (char) (c + ('a' - 'A')) : c;
+		}
+		else {
+			result = Character.toLowerCase(Character.toUpperCase(c));
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		True if there is at least one character and all of them are digits.
+	 -------------------------------------------------------------------------------------------*/
+	static boolean isDigit(String value)
+	{
+		boolean result = !value.isEmpty();
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				result = false;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	static boolean isDigit(char[] chars, int offset, int length)
+	{
+		boolean result = (length > 0);
+
+		for (int i = offset; i < offset + length; i++) {
+			if (chars[i] < '0' || chars[i] > '9') {
+				result = false;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Parses digits as an ordinal, -1 if there are none or too many for any enum.
+	 -------------------------------------------------------------------------------------------*/
+	private static int parseOrdinal(char[] chars, int offset, int length)
+	{
+		int result = -1;
+
+		if ((length > 0) && (length <= 9)) {
+			result = 0;
+			for (int i = offset; i < offset + length; i++) {
+				result = (result * 10) + (chars[i] - '0');
+			}
+		}
+
+		return result;
+	}
+
+	private static boolean fieldCanDeserializeDigit(EnumFieldAccessor field)
+	{
+		boolean result = false;
+		Class<?> valueFieldType = field.getType();
+		if ((String.class.equals(valueFieldType)) ||
+		    (int.class.equals(valueFieldType)) ||
+		    (long.class.equals(valueFieldType)) ||
+		    (Integer.class.equals(valueFieldType)) ||
+		    (Long.class.equals(valueFieldType))) {
+			result = true;
+		}
+		return result;
+	}
+}
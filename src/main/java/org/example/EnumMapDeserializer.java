@@ -0,0 +1,131 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumMapDeserializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumMapDeserializer reads a json object with enum keys into an EnumMap, E.g. a
+	Map<SomeDays, Price> or EnumMap<SomeDays, Price> property.
+
+	Each key is found on the parser's own buffer by the EnumerationDeserializer of the effective
+	annotation, the field name is never copied into a String and no intermediate Map<String, X>
+	is built. Values are read by the value deserializer Jackson resolves for the property.
+
+	A key read as null, see EnumJson.UnknownValue, is skipped with its value.
+	As with EnumerationDeserializer, an EnumJson annotation on the map property takes priority
+	over the enum class annotation. EnumJsonModule uses it for every Map of an EnumJson enum
+	an EnumMap can be assigned to.
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class EnumMapDeserializer<T extends Enum<T>> extends StdDeserializer<Map<T, Object>> implements ContextualDeserializer
+{
+
+	private static final long serialVersionUID = 1L;
+	private final transient JavaType mapType;
+	private final transient Class<T> enumClass;
+	private final transient JsonDeserializer<Object> values;
+	private final transient TypeDeserializer valueTypes;
+
+	//Set on the contextual instances only.
+	private final transient EnumerationDeserializer<T> keys;
+
+	@SuppressWarnings("unchecked")
+	protected EnumMapDeserializer(JavaType mapType, JsonDeserializer<?> values, TypeDeserializer valueTypes)
+	{
+		super(mapType);
+		this.mapType = mapType;
+		this.enumClass = (Class<T>) mapType.getKeyType().getRawClass();
+		this.values = (JsonDeserializer<Object>) values;
+		this.valueTypes = valueTypes;
+		this.keys = null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private EnumMapDeserializer(EnumMapDeserializer<T> base, EnumerationDeserializer<T> keys, JsonDeserializer<?> values, TypeDeserializer valueTypes)
+	{
+		super(base.mapType);
+		this.mapType = base.mapType;
+		this.enumClass = base.enumClass;
+		this.values = (JsonDeserializer<Object>) values;
+		this.valueTypes = valueTypes;
+		this.keys = keys;
+	}
+
+	@Override
+	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException
+	{
+		EnumMetadata<T> metadata = EnumMetadata.of(enumClass);
+		EnumJson fieldAnnotation = (null != property) ? property.getAnnotation(EnumJson.class) : null;
+		EnumerationDeserializer<T> contextualKeys = metadata.getDeserializer((null != fieldAnnotation) ? fieldAnnotation : metadata.getClassAnnotation());
+
+		JavaType valueType = mapType.getContentType();
+		JsonDeserializer<?> contextualValues = (null == values)
+			? ctxt.findContextualValueDeserializer(valueType, property)
+			: ctxt.handleSecondaryContextualization(values, property, valueType);
+		TypeDeserializer contextualValueTypes = (null == valueTypes) ? null : valueTypes.forProperty(property);
+
+		return new EnumMapDeserializer<>(this, contextualKeys, contextualValues, contextualValueTypes);
+	}
+
+	@Override
+	public Object getEmptyValue(DeserializationContext ctxt)
+	{
+		return new EnumMap<T, Object>(enumClass);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Map<T, Object> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+	{
+		Map<T, Object> result;
+		JsonToken token = p.currentToken();
+
+		if (token == JsonToken.START_OBJECT) {
+			token = p.nextToken();
+		}
+
+		if ((null == keys) || ((token != JsonToken.FIELD_NAME) && (token != JsonToken.END_OBJECT))) {
+			result = (Map<T, Object>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+		else {
+			EnumMap<T, Object> map = new EnumMap<>(enumClass);
+
+			for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+				Enum<T> key = keys.deserialize(p, ctxt);
+				JsonToken valueToken = p.nextToken();
+
+				if (null == key) {
+					p.skipChildren();
+				}
+				else if (valueToken == JsonToken.VALUE_NULL) {
+					map.put(enumClass.cast(key), values.getNullValue(ctxt));
+				}
+				else if (null == valueTypes) {
+					map.put(enumClass.cast(key), values.deserialize(p, ctxt));
+				}
+				else {
+					map.put(enumClass.cast(key), values.deserializeWithType(p, ctxt, valueTypes));
+				}
+			}
+			result = map;
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,334 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumMetadata
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumMetadata is the reflective description of one enum class that both
+	EnumerationSerializer and EnumerationDeserializer read from.
+
+	The class annotation, the VALUE and ALIAS fields and the constants are resolved
+	a single time per enum class. The registry is a ClassValue so an enum's class loader
+	can still be unloaded.
+
+	If EnumJsonProcessor generated an EnumJsonCodec for the enum, the fields and constants
+	come from the codec and the enum's fields are never looked at through reflection.
+ */
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.example.EnumJson.Projection;
+
+final class EnumMetadata<T extends Enum<T>>
+{
+
+	private static final ClassValue<EnumMetadata<?>> REGISTRY = new ClassValue<EnumMetadata<?>>()
+	{
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		@Override
+		protected EnumMetadata<?> computeValue(Class<?> type)
+		{
+			return new EnumMetadata(type);
+		}
+	};
+
+	//Key of the shared deserializer for properties and enums without an EnumJson annotation.
+	private static final Object NO_ANNOTATION = new Object();
+
+	private final Class<T> enumClass;
+	private final EnumJson classAnnotation;
+	private final Projection serializeProjection;
+	private final EnumJsonCodec<T> codec;
+	private final EnumFieldAccessor valueField;
+	private final EnumFieldAccessor aliasField;
+	private final T[] constants;
+	private volatile EnumLookup<T> lookup = null;
+	private volatile EnumEncodings<T> encodings = null;
+	private volatile EnumerationSerializer<T> serializer = null;
+	private final ConcurrentMap<Object, EnumerationDeserializer<T>> deserializers = new ConcurrentHashMap<>();
+
+	private EnumMetadata(Class<T> enumClass)
+	{
+		this.enumClass = enumClass;
+		this.classAnnotation = findClassAnnotation(enumClass);
+		this.serializeProjection = (null == classAnnotation) ? Projection.NAME : classAnnotation.serializeProjection();
+		this.codec = findCodec(enumClass);
+
+		if (null != codec) {
+			this.constants = codec.constants();
+			this.valueField = EnumFieldAccessor.of(codec, Projection.VALUE);
+			this.aliasField = EnumFieldAccessor.of(codec, Projection.ALIAS);
+		}
+		else {
+			this.constants = enumClass.getEnumConstants();
+
+			Field[] enumFields = enumClass.getDeclaredFields();
+			this.valueField = resolveField(enumFields, Projection.VALUE);
+			this.aliasField = resolveField(enumFields, Projection.ALIAS);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Returns the metadata of an enum class, building it on first use.
+		Constants with a body are subclasses of their enum, so callers holding a value
+		should pass value.getDeclaringClass().
+	 -------------------------------------------------------------------------------------------*/
+	@SuppressWarnings("unchecked")
+	static <T extends Enum<T>> EnumMetadata<T> of(Class<T> enumClass)
+	{
+		return (EnumMetadata<T>) REGISTRY.get(enumClass);
+	}
+
+	Class<T> getEnumClass()
+	{
+		return enumClass;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The generated codec of the enum, null if EnumJsonProcessor didn't generate one.
+	 -------------------------------------------------------------------------------------------*/
+	EnumJsonCodec<T> getCodec()
+	{
+		return codec;
+	}
+
+	EnumJson getClassAnnotation()
+	{
+		return classAnnotation;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The Projection of the class annotation. Without an annotation the enum is written by name.
+	 -------------------------------------------------------------------------------------------*/
+	Projection getSerializeProjection()
+	{
+		return serializeProjection;
+	}
+
+	EnumFieldAccessor getValueField()
+	{
+		return valueField;
+	}
+
+	EnumFieldAccessor getAliasField()
+	{
+		return aliasField;
+	}
+
+	EnumFieldAccessor getField(Projection projection)
+	{
+		EnumFieldAccessor result = null;
+
+		if (projection == Projection.VALUE) {
+			result = valueField;
+		}
+		else if (projection == Projection.ALIAS) {
+			result = aliasField;
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The shared constants array. It is not a copy, callers must not modify it.
+	 -------------------------------------------------------------------------------------------*/
+	T[] getConstants()
+	{
+		return constants;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The deserialization tables, built the first time they are needed.
+		Two threads may both build them, the tables are equal so either one can win.
+	 -------------------------------------------------------------------------------------------*/
+	EnumLookup<T> getLookup()
+	{
+		EnumLookup<T> result = lookup;
+
+		if (null == result) {
+			EnumJsonEvents.TableBuild event = new EnumJsonEvents.TableBuild();
+			event.begin();
+
+			result = new EnumLookup<>(this);
+			lookup = result;
+
+			if (event.shouldCommit()) {
+				event.enumClass = enumClass;
+				event.table = "lookup";
+				event.entries = result.size();
+				event.commit();
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The pre encoded serialization output, built the first time it is needed.
+	 -------------------------------------------------------------------------------------------*/
+	EnumEncodings<T> getEncodings()
+	{
+		EnumEncodings<T> result = encodings;
+
+		if (null == result) {
+			EnumJsonEvents.TableBuild event = new EnumJsonEvents.TableBuild();
+			event.begin();
+
+			result = new EnumEncodings<>(this);
+			encodings = result;
+
+			if (event.shouldCommit()) {
+				event.enumClass = enumClass;
+				event.table = "encodings";
+				event.entries = result.size();
+				event.commit();
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The serializer EnumJsonModule shares between every ObjectMapper.
+	 -------------------------------------------------------------------------------------------*/
+	@SuppressWarnings("unchecked")
+	EnumerationSerializer<T> getSerializer()
+	{
+		EnumerationSerializer<T> result = serializer;
+
+		if (null == result) {
+			result = new EnumerationSerializer<>((Class<Enum<T>>) (Class<?>) enumClass);
+			serializer = result;
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The immutable deserializer for an effective annotation, which is the property annotation
+		if there is one, otherwise the class annotation. One instance is shared per annotation.
+	 -------------------------------------------------------------------------------------------*/
+	EnumerationDeserializer<T> getDeserializer(EnumJson effectiveAnnotation)
+	{
+		Object key = (null == effectiveAnnotation) ? NO_ANNOTATION : effectiveAnnotation;
+		return deserializers.computeIfAbsent(key, k -> new EnumerationDeserializer<>(this, effectiveAnnotation));
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The EnumJson annotation of the enum, or of an annotation on the enum
+		that is itself annotated with EnumJson.
+	 -------------------------------------------------------------------------------------------*/
+	private static EnumJson findClassAnnotation(Class<?> enumClass)
+	{
+		EnumJson result = enumClass.getAnnotation(EnumJson.class);
+
+		if (null == result) {
+			for (Annotation annotation : enumClass.getAnnotations()) {
+				result = annotation.annotationType().getAnnotation(EnumJson.class);
+				if (null != result) {
+					break;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T extends Enum<T>> EnumJsonCodec<T> findCodec(Class<T> enumClass)
+	{
+		EnumJsonCodec<T> result = null;
+
+		String codecName = enumClass.getName().replace('$', '_') + EnumJsonCodec.CODEC_SUFFIX;
+		try {
+			Class<?> codecClass = Class.forName(codecName, true, enumClass.getClassLoader());
+			if (EnumJsonCodec.class.isAssignableFrom(codecClass)) {
+				EnumJsonCodec<?> candidate = (EnumJsonCodec<?>) codecClass.getDeclaredConstructor().newInstance();
+				if (enumClass.equals(candidate.enumClass())) {
+					result = (EnumJsonCodec<T>) candidate;
+				}
+			}
+		}
+		catch (ClassNotFoundException | LinkageError ignored) {
+			//No generated codec, use reflection
+		}
+		catch (ReflectiveOperationException ignored) {
+			//Ignored, use reflection
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A VALUE or ALIAS field is looked for in this order.
+			1) The field named by deserializationValueFieldName or deserializationAliasFieldName
+			2) The first field with an EnumJson annotation of that Projection
+			3) The field named value or alias
+		The field is read through an EnumFieldAccessor, it is never made accessible.
+	 -------------------------------------------------------------------------------------------*/
+	private EnumFieldAccessor resolveField(Field[] enumFields, Projection projection)
+	{
+		Field result = null;
+
+		if (null != classAnnotation) {
+			String fieldName = "";
+			if (projection == Projection.VALUE) {
+				fieldName = classAnnotation.deserializationValueFieldName();
+			}
+			else if (projection == Projection.ALIAS) {
+				fieldName = classAnnotation.deserializationAliasFieldName();
+			}
+
+			if (!"".equals(fieldName)) {
+				result = findFieldByName(enumFields, fieldName);
+			}
+		}
+
+		if (null == result) {
+			result = findAnnotatedField(enumFields, projection);
+		}
+
+		if (null == result) {
+			//Look for field by field name, not by annotation
+			result = findFieldByName(enumFields, projection.name().toLowerCase());
+		}
+
+		return (null == result) ? null : EnumFieldAccessor.of(result);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The first field with an EnumJson annotation of the Projection, null if there is none.
+	 -------------------------------------------------------------------------------------------*/
+	static Field findAnnotatedField(Field[] enumFields, Projection projection)
+	{
+		Field result = null;
+
+		for (Field f : enumFields) {
+			EnumJson annie = f.getAnnotation(EnumJson.class);
+			if ((null != annie) && (annie.serializeProjection() == projection)) {
+				result = f;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	private static Field findFieldByName(Field[] enumFields, String fieldName)
+	{
+		Field result = null;
+
+		for (Field f : enumFields) {
+			if ((!f.isEnumConstant()) && f.getName().equals(fieldName)) {
+				result = f;
+				break;
+			}
+		}
+
+		return result;
+	}
+}
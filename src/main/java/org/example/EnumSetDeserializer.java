@@ -0,0 +1,173 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumSetDeserializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumSetDeserializer reads a Set of an enum into an EnumSet, E.g. an EnumSet<Permission> or
+	Set<Permission> property.
+
+	When the effective EnumJson annotation has the BITMASK Projection, a json number is one word
+	of the bitmask and an array of numbers is its words, see EnumBitmask. The bits go straight
+	into the EnumSet, there is no lookup per constant. Text in the array is still read as
+	a constant, so payloads written before the switch to BITMASK can be read.
+
+	With any other Projection the json is an array of constants, each read by the
+	EnumerationDeserializer of the effective annotation. Constants read as null are left out.
+	A single constant is read as a set of one when ACCEPT_SINGLE_VALUE_AS_ARRAY is enabled.
+ */
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.util.EnumSet;
+import org.example.EnumJson.Projection;
+
+public class EnumSetDeserializer<T extends Enum<T>> extends StdDeserializer<EnumSet<T>> implements ContextualDeserializer
+{
+
+	private static final long serialVersionUID = 1L;
+	private final transient Class<T> enumClass;
+
+	//Set on the contextual instances only.
+	private final transient T[] constants;
+	private final transient EnumerationDeserializer<T> elements;
+	private final transient boolean bitmask;
+
+	public EnumSetDeserializer()
+	{
+		this(null);
+	}
+
+	protected EnumSetDeserializer(Class<T> enumClass)
+	{
+		super(EnumSet.class);
+		this.enumClass = enumClass;
+		this.constants = null;
+		this.elements = null;
+		this.bitmask = false;
+	}
+
+	private EnumSetDeserializer(EnumMetadata<T> metadata, EnumJson effectiveAnnotation, JavaType setType)
+	{
+		super(setType);
+		this.enumClass = metadata.getEnumClass();
+		this.constants = metadata.getConstants();
+		this.elements = metadata.getDeserializer(effectiveAnnotation);
+		this.bitmask = (null != effectiveAnnotation) && (effectiveAnnotation.serializeProjection() == Projection.BITMASK);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException
+	{
+		JsonDeserializer<?> result = this;
+		Class<T> contextualClass = enumClass;
+		EnumJson fieldAnnotation = null;
+
+		JavaType type = (null != property) ? property.getType() : ctxt.getContextualType();
+		if (null != property) {
+			fieldAnnotation = property.getAnnotation(EnumJson.class);
+		}
+
+		if ((null == contextualClass) && (null != type) && (null != type.getContentType())) {
+			contextualClass = (Class<T>) type.getContentType().getRawClass();
+		}
+
+		if ((null != contextualClass) && (contextualClass.isEnum())) {
+			EnumMetadata<T> metadata = EnumMetadata.of(contextualClass);
+			JavaType setType = (null != type) ? type : ctxt.getTypeFactory().constructCollectionType(EnumSet.class, contextualClass);
+			result = new EnumSetDeserializer<>(metadata, (null != fieldAnnotation) ? fieldAnnotation : metadata.getClassAnnotation(), setType);
+		}
+
+		return result;
+	}
+
+	@Override
+	public Object getEmptyValue(DeserializationContext ctxt)
+	{
+		return (null == enumClass) ? null : EnumSet.noneOf(enumClass);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public EnumSet<T> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
+	{
+		EnumSet<T> result;
+
+		if (null == elements) {
+			//Not contextualized, there is no enum class to read into.
+			result = (EnumSet<T>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+		else if ((bitmask) && (p.currentToken() == JsonToken.VALUE_NUMBER_INT)) {
+			result = EnumSet.noneOf(enumClass);
+			EnumBitmask.add(result, constants, p.getLongValue(), 0);
+			recordBitmask();
+		}
+		else if (p.currentToken() == JsonToken.START_ARRAY) {
+			result = EnumSet.noneOf(enumClass);
+			readArray(p, ctxt, result);
+		}
+		else if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+			result = EnumSet.noneOf(enumClass);
+			add(result, p, ctxt);
+		}
+		else {
+			result = (EnumSet<T>) ctxt.handleUnexpectedToken(getValueType(ctxt), p);
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Numbers are the words of a bitmask if the Projection is BITMASK, anything else a constant.
+	 -------------------------------------------------------------------------------------------*/
+	private void readArray(JsonParser p, DeserializationContext ctxt, EnumSet<T> result) throws IOException
+	{
+		boolean words = false;
+		int index = 0;
+
+		for (JsonToken token = p.nextToken(); token != JsonToken.END_ARRAY; token = p.nextToken()) {
+			if ((bitmask) && (token == JsonToken.VALUE_NUMBER_INT)) {
+				EnumBitmask.add(result, constants, p.getLongValue(), index);
+				words = true;
+			}
+			else {
+				add(result, p, ctxt);
+			}
+			index++;
+		}
+
+		if (words) {
+			recordBitmask();
+		}
+	}
+
+	private void add(EnumSet<T> result, JsonParser p, DeserializationContext ctxt) throws IOException
+	{
+		if (p.currentToken() != JsonToken.VALUE_NULL) {
+			Enum<T> constant = elements.deserializeElement(p, ctxt);
+			if (null != constant) {
+				result.add(enumClass.cast(constant));
+			}
+		}
+	}
+
+	private void recordBitmask()
+	{
+		EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+		if (null != metrics) {
+			metrics.lookup(enumClass, Projection.BITMASK);
+		}
+	}
+}
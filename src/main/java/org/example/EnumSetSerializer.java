@@ -0,0 +1,72 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumSetSerializer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumSetSerializer serializes a Set of an enum, E.g. an EnumSet<Permission> property.
+
+	With the BITMASK Projection the set is written as one long, or a long[] for an enum of more
+	than 64 constants, see EnumBitmask. With any other Projection it is an array of the constants,
+	as EnumCollectionSerializer writes it.
+
+	As with EnumerationSerializer, an EnumJson annotation on the property takes priority over
+	the enum class annotation. EnumJsonModule uses it for every Set of an EnumJson enum.
+ */
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.util.Collection;
+import org.example.EnumJson.Projection;
+
+public class EnumSetSerializer<T extends Enum<T>> extends EnumCollectionSerializer<T>
+{
+
+	private static final long serialVersionUID = 1L;
+
+	public EnumSetSerializer()
+	{
+		super();
+	}
+
+	protected EnumSetSerializer(Class<T> enumClass, Projection projection)
+	{
+		super(enumClass, projection);
+	}
+
+	@Override
+	EnumCollectionSerializer<T> withContext(Class<T> contextualClass, Projection contextualProjection)
+	{
+		return new EnumSetSerializer<>(contextualClass, contextualProjection);
+	}
+
+	@Override
+	void writeUnknownClass(Projection projection, Collection<T> value, JsonGenerator gen) throws IOException
+	{
+		if (projection == Projection.BITMASK) {
+			gen.writeNumber(0L);
+		}
+		else {
+			super.writeUnknownClass(projection, value, gen);
+		}
+	}
+
+	@Override
+	void write(EnumMetadata<T> metadata, Projection effective, Collection<T> value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	{
+		if (effective == Projection.BITMASK) {
+			EnumBitmask.write(value, metadata.getConstants().length, gen);
+
+			EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+			if (null != metrics) {
+				metrics.serialize(metadata.getEnumClass(), effective);
+			}
+		}
+		else {
+			super.write(metadata, effective, value, gen, provider);
+		}
+	}
+}
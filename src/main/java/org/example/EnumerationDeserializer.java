@@ -6,6 +6,7 @@
 package org.example;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
@@ -16,14 +17,32 @@ import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
 
-public class EnumerationDeserializer<T extends Enum<T>> extends StdDeserializer<Enum<T>> implements ContextualDeserializer
+public class EnumerationDeserializer<T extends Enum<T>> extends StdDeserializer<Enum<T>> implements ContextualDeserializer, Cloneable
 {
 
 	private static final long serialVersionUID = 1L;
-	private transient Class<T> enumClass;
-	private transient EnumJson classAnnotation = null;
-	private transient EnumJson fieldAnnotation = null;
+
+	//The copy of a map key String, EnumLookup folds and normalizes into a buffer of its own.
+	private static final ThreadLocal<char[]> MAP_KEY_BUFFER = ThreadLocal.withInitial(() -> new char[32]);
+
+	private final transient Class<T> enumClass;
+
+	//Set on the contextual instances only, which are immutable and shared by every property
+	//with the same enum class and effective annotation.
+	private final transient EnumLookup<T> lookup;
+	private final transient boolean caseInsensitive;
+	private final transient EnumLookup.Normalized normalized;
+
+	//What a json value that matches no constant is read as, see EnumJson.UnknownValue.
+	private final transient UnknownValue unknownValue;
+	private final transient T defaultConstant;
+	private final transient String unknownMessage;
+
+	//Set on the contextual copies of a subclass only, the shared instance that does the reading.
+	//Assigned once, before the copy is handed to Jackson.
+	private transient EnumerationDeserializer<T> delegate;
 
 	protected EnumerationDeserializer()
 	{
@@ -34,33 +53,111 @@ public class EnumerationDeserializer<T extends Enum<T>> extends StdDeserializer<
 	{
 		super(vc);
 		this.enumClass = vc;
+		this.lookup = null;
+		this.caseInsensitive = false;
+		this.normalized = null;
+		this.unknownValue = UnknownValue.NULL;
+		this.defaultConstant = null;
+		this.unknownMessage = null;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Only EnumMetadata creates contextual instances, see EnumMetadata.getDeserializer.
+	 -------------------------------------------------------------------------------------------*/
+	EnumerationDeserializer(EnumMetadata<T> metadata, EnumJson effectiveAnnotation)
+	{
+		super(metadata.getEnumClass());
+		this.enumClass = metadata.getEnumClass();
+		this.lookup = metadata.getLookup();
+		this.caseInsensitive = (null != effectiveAnnotation) && effectiveAnnotation.deserializeCaseInsensitive();
+
+		EnumKeyNormalizer normalizer = EnumKeyNormalizer.of(effectiveAnnotation);
+		this.normalized = (null == normalizer) ? null : lookup.normalized(normalizer);
+
+		this.unknownValue = (null == effectiveAnnotation) ? UnknownValue.NULL : effectiveAnnotation.deserializationUnknownValue();
+		this.defaultConstant = (unknownValue == UnknownValue.DEFAULT) ? findDefault(metadata, effectiveAnnotation.deserializationDefault()) : null;
+		this.unknownMessage = (unknownValue == UnknownValue.FAIL) ? UnknownEnumValueException.messageFor(enumClass) : null;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The constant named by EnumJson.deserializationDefault, checked once per deserializer.
+	 -------------------------------------------------------------------------------------------*/
+	private static <T extends Enum<T>> T findDefault(EnumMetadata<T> metadata, String name)
+	{
+		T result = null;
+
+		for (T constant : metadata.getConstants()) {
+			if (constant.name().equals(name)) {
+				result = constant;
+				break;
+			}
+		}
+
+		if (null == result) {
+			throw new IllegalArgumentException("deserializationDefault \"" + name + "\" is not a constant of " + metadata.getEnumClass().getName());
+		}
+
+		return result;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException
 	{
+		JsonDeserializer<?> result = this;
+		Class<T> contextualClass = enumClass;
+		EnumJson fieldAnnotation = null;
 
 		if (null != property) {
 			//This enum is a bean or a member variable.
 			fieldAnnotation = property.getAnnotation(EnumJson.class);
 
 			//enumClass could have been set in a constructor.
-			if (null == enumClass) {
-				enumClass = (Class<T>) property.getType().getRawClass();
+			if (null == contextualClass) {
+				contextualClass = (Class<T>) property.getType().getRawClass();
 			}
 		}
 
-		if (null == enumClass) {
+		if (null == contextualClass) {
 			//enum class wasn't set in constructor and the property was null.
-			enumClass = (Class<T>) ctxt.getContextualType().getRawClass();
+			contextualClass = (Class<T>) ctxt.getContextualType().getRawClass();
 		}
 
-		if (null != enumClass) {
-			classAnnotation = enumClass.getAnnotation(EnumJson.class);
+		if ((null != contextualClass) && (contextualClass.isEnum())) {
+			EnumMetadata<T> metadata = EnumMetadata.of(contextualClass);
+			EnumerationDeserializer<T> shared = metadata.getDeserializer((null != fieldAnnotation) ? fieldAnnotation : metadata.getClassAnnotation());
+
+			if (getClass() == EnumerationDeserializer.class) {
+				result = shared;
+			}
+			else {
+				//A subclass, E.g. RGB.Deserializer, may override deserialize, keep the subclass.
+				result = withDelegate(shared);
+			}
 		}
 
-		return this;
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A copy of this subclass instance that reads with shared.
+	 -------------------------------------------------------------------------------------------*/
+	@SuppressWarnings("unchecked")
+	private EnumerationDeserializer<T> withDelegate(EnumerationDeserializer<T> shared)
+	{
+		EnumerationDeserializer<T> result = this;
+
+		if (delegate != shared) {
+			try {
+				result = (EnumerationDeserializer<T>) clone();
+				result.delegate = shared;
+			}
+			catch (CloneNotSupportedException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		return result;
 	}
 
 	/*-------------------------------------------------------------------------------------------
@@ -69,138 +166,210 @@ public class EnumerationDeserializer<T extends Enum<T>> extends StdDeserializer<
 			2) If the enum nas an annotation for an EnumJson Projection = ALIAS
 			3) If the enum has an annotation for an EnumJson Projection = VALUE
 			4) If the json string matches the enum.ordinal
+		An integral json number is matched as a number, any other token by its text.
+		A json value that matches nothing is read as null, the default constant or fails,
+		see EnumJson.UnknownValue.
 	 -------------------------------------------------------------------------------------------*/
-	@java.lang.SuppressWarnings("java:S3011")
 	@Override
 	public Enum<T> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException
 	{
+		Enum<T> result;
 
-		Enum<T> result = null;
-		String jsonValue = p.getText();
+		if (null != delegate) {
+			//A contextual copy of a subclass.
+			result = delegate.deserialize(p, ctxt);
+		}
+		else if (null == lookup) {
+			//Not contextualized, use the shared instance for the enum class annotation.
+			EnumMetadata<T> metadata = EnumMetadata.of(enumClass);
+			result = metadata.getDeserializer(metadata.getClassAnnotation()).deserialize(p, ctxt);
+		}
+		else {
+			result = (EnumJsonEvents.SLOW_LOOKUP_TIMED) ? findTimed(p) : find(p);
 
-		if ((null == p.getParsingContext().getParent()) && (p.getCurrentToken().equals(JsonToken.VALUE_STRING))) {
-			//This is the root context. That means the data could be in nested double quotes.
-			char[] chars = jsonValue.toCharArray();
-			if ((chars[0] == '"') && (chars[chars.length - 1] == '"')) {
-				jsonValue = jsonValue.substring(1, chars.length - 1);
+			if (null == result) {
+				result = unknown();
 			}
 		}
 
-		boolean caseInsensitive = false;
+		return result;
+	}
 
-		if (fieldAnnotation != null) {
-			caseInsensitive = fieldAnnotation.deserializeCaseInsensitive();
-		}
-		else if (classAnnotation != null) {
-			caseInsensitive = classAnnotation.deserializeCaseInsensitive();
+	private Enum<T> unknown() throws UnknownEnumValueException
+	{
+		if (unknownValue == UnknownValue.FAIL) {
+			throw new UnknownEnumValueException(enumClass, unknownMessage);
 		}
 
-		boolean isDigit = isDigit(jsonValue);
+		return defaultConstant;
+	}
 
-		Field[] enumFields = enumClass.getDeclaredFields();
+	/*-------------------------------------------------------------------------------------------
+		Finds the constant for the current token in the tables of this contextual instance.
+	 -------------------------------------------------------------------------------------------*/
+	private Enum<T> find(JsonParser p) throws IOException
+	{
+		Enum<T> result;
+		JsonToken token = p.currentToken();
 
-		//-------------------------------------------------------------------------------------------
-		// Find the alias and value field just once.
-		Field valueField = null;
-		Field aliasField = null;
+		if ((token == JsonToken.VALUE_NUMBER_INT) && (p.getNumberType() != NumberType.BIG_INTEGER)) {
+			//An ordinal or a numeric value, matched as a number.
+			long jsonValue = p.getLongValue();
+			result = lookup.find(jsonValue);
 
-		if (null != classAnnotation) {
-			if (!"".equals(classAnnotation.deserializationValueFieldName())) {
-				valueField = getDeclaredField(classAnnotation.deserializationValueFieldName());
+			if (null == result) {
+				EnumJsonEvents.lookupMiss(enumClass, unknownValue, jsonValue);
 			}
 
-			if (!"".equals(classAnnotation.deserializationAliasFieldName())) {
-				aliasField = getDeclaredField(classAnnotation.deserializationAliasFieldName());
+			EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+			if (null != metrics) {
+				recordLookup(metrics, result, jsonValue);
 			}
 		}
-
-		if ((null == valueField) || (null == aliasField)) {
-			for (Field f : enumFields) {
-				EnumJson annie = f.getAnnotation(EnumJson.class);
-				if (null != annie) {
-					if ((null == aliasField) && (annie.serializeProjection() == Projection.ALIAS)) {
-						aliasField = f;
-					}
-					else if ((null != valueField) && (annie.serializeProjection() == Projection.VALUE)) {
-						valueField = f;
-					}
-				}
-				if ((null != aliasField) && (null != valueField)) {
-					break;
+		else {
+			//Match on the parser's own buffer, the json value is never copied into a String.
+			char[] chars = p.getTextCharacters();
+			int offset = p.getTextOffset();
+			int length = p.getTextLength();
+
+			if ((null == p.getParsingContext().getParent()) && (token == JsonToken.VALUE_STRING)) {
+				//This is the root context. That means the data could be in nested double quotes.
+				if ((length >= 2) && (chars[offset] == '"') && (chars[offset + length - 1] == '"')) {
+					offset++;
+					length -= 2;
 				}
 			}
+
+			result = find(chars, offset, length);
 		}
 
-		if (null == aliasField) {
-			//Look for field by field name, not by annotation
-			aliasField = getDeclaredField(Projection.ALIAS.name().toLowerCase());
+		return result;
+	}
+
+	private Enum<T> find(char[] chars, int offset, int length)
+	{
+		Enum<T> result = lookup.find(chars, offset, length, caseInsensitive, normalized);
+
+		if (null == result) {
+			EnumJsonEvents.lookupMiss(enumClass, unknownValue, chars, offset, length);
 		}
 
-		if (null == valueField) {
-			//Look for field by field name, not by annotation
-			valueField = getDeclaredField(Projection.VALUE.name().toLowerCase());
+		EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+		if (null != metrics) {
+			recordLookup(metrics, result, chars, offset, length);
 		}
 
-		if (null != aliasField) {
-			aliasField.setAccessible(true);
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Reads one element of a json array of constants, see EnumSetDeserializer.
+		A nested object or array is never a constant, it is reported to ctxt instead of being
+		looked up as an unknown value, which would leave the parser inside it.
+	 -------------------------------------------------------------------------------------------*/
+	Enum<T> deserializeElement(JsonParser p, DeserializationContext ctxt) throws IOException
+	{
+		Enum<T> result;
+		JsonToken token = p.currentToken();
+
+		if ((token == JsonToken.START_OBJECT) || (token == JsonToken.START_ARRAY)) {
+			result = enumClass.cast(ctxt.handleUnexpectedToken(enumClass, p));
+		}
+		else {
+			result = deserialize(p, ctxt);
 		}
 
-		if (null != valueField) {
-			valueField.setAccessible(true);
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Reads a map key the way deserialize reads a json string, see EnumKeyDeserializer.
+		Only called on contextual instances.
+	 -------------------------------------------------------------------------------------------*/
+	Enum<T> deserializeKey(String key) throws UnknownEnumValueException
+	{
+		int length = key.length();
+		char[] chars = MAP_KEY_BUFFER.get();
+
+		if (chars.length < length) {
+			chars = new char[length];
+			MAP_KEY_BUFFER.set(chars);
 		}
+		key.getChars(0, length, chars, 0);
 
-		//-------------------------------------------------------------------------------------------
+		Enum<T> result = find(chars, 0, length);
 
-		//-------------------------------------------------------------------------------------------
-		//Loop to go through the enum values only one time.
-		for (final T enumValue : enumClass.getEnumConstants()) {
+		if (null == result) {
+			result = unknown();
+		}
 
-			//-------------------------------------------------------------------------------------------
-			//Check if json matches the Name
-			if ((!isDigit) && (enumValue.name().equals(jsonValue) || ((caseInsensitive) && enumValue.name().equalsIgnoreCase(jsonValue)))) {
-				result = enumValue;
-				break;
-			}
+		return result;
+	}
 
-			//-------------------------------------------------------------------------------------------
-			//Check if the enum has an EnumJson Projection Annotation of ALIAS
-			if ((null != aliasField) && ((!isDigit) || (fieldCanDeserializeDigit(aliasField)))) {
-				Object valueOfField = getFieldValue(aliasField, enumValue);
-				if ((null != valueOfField) &&
-				    ((valueOfField.toString().equals(jsonValue)) ||
-				     ((caseInsensitive) && valueOfField.toString().equalsIgnoreCase(jsonValue)))) {
-					result = enumValue;
-					break;
-				}
-			}
+	/*-------------------------------------------------------------------------------------------
+		find, timed for the SlowLookup event. The value is only copied if the event is committed.
+	 -------------------------------------------------------------------------------------------*/
+	private Enum<T> findTimed(JsonParser p) throws IOException
+	{
+		EnumJsonEvents.SlowLookup event = new EnumJsonEvents.SlowLookup();
+		event.begin();
+
+		Enum<T> result = find(p);
+
+		event.end();
+		if (event.shouldCommit()) {
+			event.enumClass = enumClass;
+			event.value = EnumJsonEvents.truncate(p.getText());
+			event.found = (null != result);
+			event.commit();
+		}
+
+		return result;
+	}
+
+	private void recordLookup(EnumJsonMetrics metrics, Enum<T> result, long jsonValue)
+	{
+		if (null == result) {
+			metrics.miss(enumClass);
+		}
+		else {
+			metrics.lookup(enumClass, lookup.projectionOf(enumClass.cast(result), jsonValue));
+		}
+	}
 
-			//-------------------------------------------------------------------------------------------
-			//Check if the enum has an EnumJson Projection Annotation of VALUE
-			if ((null != valueField) && ((!isDigit) || (fieldCanDeserializeDigit(valueField)))) {
-				Object valueOfField = getFieldValue(valueField, enumValue);
-				if ((null != valueOfField) &&
-				    ((valueOfField.toString().equals(jsonValue)) ||
-				     ((caseInsensitive) && valueOfField.toString().equalsIgnoreCase(jsonValue)))) {
-					result = enumValue;
-					break;
+	/*-------------------------------------------------------------------------------------------
+		A constant no Projection matches exactly was found ignoring case, or normalized.
+	 -------------------------------------------------------------------------------------------*/
+	private void recordLookup(EnumJsonMetrics metrics, Enum<T> result, char[] chars, int offset, int length)
+	{
+		if (null == result) {
+			metrics.miss(enumClass);
+		}
+		else {
+			T constant = enumClass.cast(result);
+			Projection matched = lookup.projectionOf(constant, chars, offset, length, false);
+
+			if ((null == matched) && (caseInsensitive)) {
+				matched = lookup.projectionOf(constant, chars, offset, length, true);
+				if (null != matched) {
+					metrics.caseInsensitiveFallback(enumClass);
 				}
 			}
-		}
 
-		//-------------------------------------------------------------------------------------------
-		//Check if json matches the Ordinal
-		//This can't be checked in the previous loop over the enum constants
-		//because there could be a conflict with value or alias being a digit
-		if ((isDigit) && (null == result)) {
-			int index = parseInt(jsonValue, -1);
-			if ((index >= 0) && (index < enumClass.getEnumConstants().length)) {
-				result = enumClass.getEnumConstants()[index];
+			if ((null == matched) && (null != normalized)) {
+				matched = lookup.projectionOf(constant, chars, offset, length, normalized);
+				metrics.normalizedFallback(enumClass);
 			}
-		}
 
-		return result;
+			metrics.lookup(enumClass, matched);
+		}
 	}
 
+	/*-------------------------------------------------------------------------------------------
+		The helpers below were used by the per value scan EnumMetadata and EnumLookup replaced.
+		They are kept for subclasses that call them and are no longer used by this class.
+	 -------------------------------------------------------------------------------------------*/
+	@Deprecated
 	protected int parseInt(String s, int defaultResult)
 	{
 		int result = defaultResult;
@@ -215,6 +384,7 @@ public class EnumerationDeserializer<T extends Enum<T>> extends StdDeserializer<
 		return result;
 	}
 
+	@Deprecated
 	protected Field getDeclaredField(String fieldName)
 	{
 		Field result = null;
@@ -229,36 +399,24 @@ public class EnumerationDeserializer<T extends Enum<T>> extends StdDeserializer<
 		return result;
 	}
 
+	/*-------------------------------------------------------------------------------------------
+		Reads the field through an EnumFieldAccessor, the field is never made accessible.
+	 -------------------------------------------------------------------------------------------*/
+	@Deprecated
 	protected Object getFieldValue(Field field, T enumValue)
 	{
-		Object result = null;
-
-		try {
-			result = field.get(enumValue);
-		}
-		catch (IllegalAccessException ignored) {
-			//Ignored
-		}
-
-		return result;
-
+		EnumFieldAccessor accessor = EnumFieldAccessor.of(field);
+		return (null == accessor) ? null : accessor.get(enumValue);
 	}
 
+	@Deprecated
 	protected boolean isDigit(String value)
 	{
-		boolean result = true;
-
-		final char[] chars = value.toCharArray();
-		for (Character c : chars) {
-			if (c < '0' || c > '9') {
-				result = false;
-				break;
-			}
-		}
-
-		return result;
+		//An empty String has always been digits here, EnumLookup needs at least one.
+		return (value.isEmpty()) || (EnumLookup.isDigit(value));
 	}
 
+	@Deprecated
 	protected boolean fieldCanDeserializeDigit(Field field)
 	{
 		boolean result = false;
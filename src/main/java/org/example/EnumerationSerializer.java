@@ -18,18 +18,23 @@ package org.example;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import org.example.EnumJson.Projection;
 
-public class EnumerationSerializer<T extends Enum<T>> extends StdSerializer<Enum<T>>
+public class EnumerationSerializer<T extends Enum<T>> extends StdSerializer<Enum<T>> implements ContextualSerializer
 {
 
 	private static final long serialVersionUID = 1L;
-	private transient EnumJson classAnnotation = null;
+
+	//The Projection of the property being serialized, null to use the enum class annotation.
+	private final Projection projection;
 
 	public EnumerationSerializer()
 	{
@@ -38,168 +43,78 @@ public class EnumerationSerializer<T extends Enum<T>> extends StdSerializer<Enum
 
 	protected EnumerationSerializer(Class<Enum<T>> t)
 	{
-		super(t);
+		this(t, null);
 	}
 
+	protected EnumerationSerializer(Class<Enum<T>> t, Projection projection)
+	{
+		super(t);
+		this.projection = projection;
+	}
 
-	@SuppressWarnings("unchecked")
+	/*-------------------------------------------------------------------------------------------
+		Resolves a property level EnumJson annotation once per property.
+		The annotation may be on a field of any visibility, a getter or a renamed property.
+		Each property gets its own immutable serializer, the shared instance is never changed.
+	 -------------------------------------------------------------------------------------------*/
 	@Override
-	public void serialize(Enum<T> value, JsonGenerator gen, SerializerProvider provider) throws IOException
+	public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
 	{
+		JsonSerializer<?> result = this;
 
-		//Looking for data to write as json
-		String dataToWrite = null;
-
-		//Get the class annotation
-		try {
-			classAnnotation = value.getClass().getAnnotation(EnumJson.class);
-		}
-		catch (Exception ignored) {
-			//Ignored
-		}
-
-		//Looking for a specific annotation
-		//Field annotation has priority over class annotation
-		EnumJson enumJsonAnnotation = null;
-
-		//If this value is a field/member variable contained by another object, get the field name.
-		String fieldName = gen.getOutputContext().getCurrentName();
-
-		if (null != fieldName) {
-			//Does the field have an annotation?
-
-			try {
-				enumJsonAnnotation = gen.getOutputContext().getCurrentValue().getClass().getField(fieldName).getAnnotation(EnumJson.class);
-			}
-			catch (NoSuchFieldException ignored) {
-				//ignored
-			}
-
-		}
-
-		if (null == enumJsonAnnotation) {
-			//There wasn't a field level annotation
-			//Is there an annotation on the enum class?
-			enumJsonAnnotation = classAnnotation;
-		}
-
-		ObjectMapper mapper = (ObjectMapper) gen.getCodec();
-
-		if (null != enumJsonAnnotation) {
-			switch (enumJsonAnnotation.serializeProjection()) {
-				case ORDINAL: {
-					dataToWrite = mapper.writeValueAsString(value.ordinal());
-				}
-				break;
-
-				case NAME: {
-					dataToWrite = mapper.writeValueAsString(value.name());
-				}
-				break;
-
-				case ALIAS: {
-					Field[] enumFields = value.getClass().getDeclaredFields();
-					Field field = findClassAnnotation(enumFields, Projection.ALIAS, (Class<T>) value.getClass());
-					if (null == field) {
-						field = findAnnotatedField(enumFields, Projection.ALIAS);
-						if (null == field) {
-							field = findFieldByName(Projection.ALIAS.name().toLowerCase(), (Class<T>) value.getClass());
-						}
-					}
-					dataToWrite = getData(field, value, mapper);
-				}
-				break;
-
-				case VALUE: {
-					Field[] enumFields = value.getClass().getDeclaredFields();
-					Field field = findClassAnnotation(enumFields, Projection.VALUE, (Class<T>) value.getClass());
-					if (null == field) {
-						field = findAnnotatedField(enumFields, Projection.VALUE);
-						if (null == field) {
-							field = findFieldByName(Projection.VALUE.name().toLowerCase(), (Class<T>) value.getClass());
-						}
-					}
-					dataToWrite = getData(field, value, mapper);
-				}
-				break;
-
-				default:
-					break;
+		if (null != property) {
+			EnumJson fieldAnnotation = property.getAnnotation(EnumJson.class);
+			if ((null != fieldAnnotation) && (fieldAnnotation.serializeProjection() != projection)) {
+				result = new EnumerationSerializer<>(handledType(), fieldAnnotation.serializeProjection());
 			}
 		}
-		else {
-			//There was not any EnumJson annotation or known field such as value or alias.
-			// Write enum as name
-			dataToWrite = mapper.writeValueAsString(value.name());
-		}
 
-		if (null != dataToWrite) {
-			gen.writeRawValue(dataToWrite);
-		}
+		return result;
 	}
 
-	private Field findClassAnnotation(Field[] enumFields, Projection projection, Class<T> enumClass)
+	@Override
+	public void serialize(Enum<T> value, JsonGenerator gen, SerializerProvider provider) throws IOException
 	{
-		String fieldName = null;
-		Field result = null;
+		EnumMetadata<T> metadata = EnumMetadata.of(value.getDeclaringClass());
 
-		if (null != classAnnotation) {
-			if ((projection.equals(Projection.VALUE)) && (!"".equals(classAnnotation.deserializationValueFieldName()))) {
-				fieldName = classAnnotation.deserializationValueFieldName();
-			}
-			else if ((projection.equals(Projection.ALIAS)) && (!"".equals(classAnnotation.deserializationAliasFieldName()))) {
-				fieldName = classAnnotation.deserializationAliasFieldName();
-			}
-		}
+		//Field annotation has priority over class annotation
+		Projection effective = projection;
 
-		if (null != fieldName) {
-			result = findFieldByName(fieldName, enumClass);
+		if (null == effective) {
+			//There wasn't a field level annotation, use the enum class annotation or the name.
+			effective = metadata.getSerializeProjection();
 		}
 
-		return result;
-
-	}
+		metadata.getEncodings().write(value, effective, gen, provider);
 
-	protected Field findAnnotatedField(Field[] enumFields, EnumJson.Projection projection)
-	{
-		Field result = null;
-		for (Field f : enumFields) {
-			EnumJson annie = f.getAnnotation(EnumJson.class);
-			if ((null != annie) && (annie.serializeProjection() == projection)) {
-				result = f;
-				break;
-			}
+		EnumJsonMetrics metrics = EnumJsonMetrics.installed();
+		if (null != metrics) {
+			metrics.serialize(metadata.getEnumClass(), effective);
 		}
-
-		return result;
 	}
 
-	private Field findFieldByName(String fieldName, Class<T> enumClass)
+	/*-------------------------------------------------------------------------------------------
+		The helpers below were used by the per value field scan EnumMetadata replaced.
+		They are kept for subclasses that call them and are no longer used by this class.
+	 -------------------------------------------------------------------------------------------*/
+	@Deprecated
+	protected Field findAnnotatedField(Field[] enumFields, EnumJson.Projection projection)
 	{
-		Field result = null;
-		try {
-			result = enumClass.getDeclaredField(fieldName);
-		}
-		catch (NoSuchFieldException ignored) {
-			//Ignored
-		}
-		return result;
+		return EnumMetadata.findAnnotatedField(enumFields, projection);
 	}
 
-	@java.lang.SuppressWarnings("java:S3011")
+	/*-------------------------------------------------------------------------------------------
+		Reads the field through an EnumFieldAccessor, the field is never made accessible.
+	 -------------------------------------------------------------------------------------------*/
+	@Deprecated
 	protected String getData(Field field, Enum<T> value, ObjectMapper mapper)
 	{
 		String dataToWrite = null;
 
 		Object foundValue = null;
-		if (null != field) {
-			try {
-				field.setAccessible(true);
-				foundValue = field.get(value);
-			}
-			catch (IllegalAccessException ignored) {
-				//ignored
-			}
+		EnumFieldAccessor accessor = (null == field) ? null : EnumFieldAccessor.of(field);
+		if (null != accessor) {
+			foundValue = accessor.get(value);
 		}
 
 		if (null != foundValue) {
@@ -214,4 +129,3 @@ public class EnumerationSerializer<T extends Enum<T>> extends StdSerializer<Enum
 		return dataToWrite;
 	}
 }
-
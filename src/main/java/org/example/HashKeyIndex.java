@@ -0,0 +1,95 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.HashKeyIndex
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	HashKeyIndex is an open addressing table from a json key to an enum ordinal.
+	Keys and ordinals are kept in two flat arrays, a lookup is one hash probe
+	followed by a short linear scan on collision.
+	Keys are hashed with String.hashCode, which can also be computed over a char range.
+
+	The table is immutable once built.
+ */
+
+final class HashKeyIndex implements EnumKeyIndex
+{
+
+	private final String[] keys;
+	private final int[] ordinals;
+	private final int mask;
+
+	HashKeyIndex(String[] keys, int[] ordinals)
+	{
+		//Keep the load factor at or below one half so probe sequences stay short.
+		int capacity = Integer.highestOneBit(Math.max(keys.length, 1)) << 2;
+
+		this.keys = new String[capacity];
+		this.ordinals = new int[capacity];
+		this.mask = capacity - 1;
+
+		for (int i = 0; i < keys.length; i++) {
+			int slot = spread(keys[i].hashCode()) & mask;
+			while (null != this.keys[slot]) {
+				slot = (slot + 1) & mask;
+			}
+			this.keys[slot] = keys[i];
+			this.ordinals[slot] = ordinals[i];
+		}
+	}
+
+	@Override
+	public int ordinalOf(String key)
+	{
+		int result = NOT_FOUND;
+
+		int slot = spread(key.hashCode()) & mask;
+		String candidate;
+		while (null != (candidate = keys[slot])) {
+			if (candidate.equals(key)) {
+				result = ordinals[slot];
+				break;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		return result;
+	}
+
+	@Override
+	public int ordinalOf(char[] chars, int offset, int length)
+	{
+		int result = NOT_FOUND;
+
+		int slot = spread(hash(chars, offset, length)) & mask;
+		String candidate;
+		while (null != (candidate = keys[slot])) {
+			if (EnumKeyIndex.matches(candidate, chars, offset, length)) {
+				result = ordinals[slot];
+				break;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The String.hashCode of the characters, so both lookups probe the same slot.
+	 -------------------------------------------------------------------------------------------*/
+	private static int hash(char[] chars, int offset, int length)
+	{
+		int h = 0;
+		for (int i = offset; i < offset + length; i++) {
+			h = (31 * h) + chars[i];
+		}
+		return h;
+	}
+
+	private static int spread(int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+}
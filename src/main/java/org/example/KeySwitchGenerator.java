@@ -0,0 +1,430 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.KeySwitchGenerator
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	KeySwitchGenerator compiles the keys of an enum into a class of its own, for enums that
+	EnumJsonProcessor never saw. E.g. enums in third party jars.
+
+	The generated EnumKeyIndex is the switch a person would write by hand:
+		int h = String.hashCode of the characters;
+		switch (h) {
+			case 2081: if (KeySwitchIndex.matches("RED", chars, offset, length)) return 0; ...
+		}
+		return NOT_FOUND;
+	Keys with the same hash share a case and are compared one after the other.
+
+	Each key adds about 25 bytes of code, and HotSpot never compiles a method of more than
+	8000 bytes (HugeMethodLimit). An enum with more than KEYS_PER_METHOD keys is split by hash
+	into private methods of KEYS_PER_METHOD keys at most, which the public methods call after
+	comparing the hash with the last hash of each method.
+
+	Generation is off unless the system property org.example.enumjson.generatedLookup is true.
+	EnumLookup keeps using its generic index and swaps in the generated one once it is ready,
+	classes are generated on a single background thread so the first lookups never wait.
+	If generation fails the generic index stays.
+
+	Each class is defined in a class loader of its own, a child of the library's, and extends
+	KeySwitchIndex. Only the EnumLookup of the enum references it, so the class and its loader
+	are collected with the enum, E.g. when a webapp is redeployed. Enums with more than MAX_KEYS
+	keys are not generated.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+
+final class KeySwitchGenerator
+{
+
+	static final String ENABLED_PROPERTY = "org.example.enumjson.generatedLookup";
+
+	static final int MAX_KEYS = 1024;
+
+	//About 5500 bytes of code per method, under HotSpot's 8000.
+	static final int KEYS_PER_METHOD = 200;
+
+	private static final String INDEX = "org/example/KeySwitchIndex";
+	private static final String STRING = "java/lang/String";
+	private static final String CLASS_PREFIX = "org/example/GeneratedKeyIndex$";
+	private static final String BUCKET_PREFIX = "ordinalOf$";
+
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+	private KeySwitchGenerator()
+	{
+	}
+
+	static boolean isEnabled()
+	{
+		return Boolean.getBoolean(ENABLED_PROPERTY);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Generates the index on the background thread and hands it to the consumer.
+		The consumer is not called if the index can't be generated.
+	 -------------------------------------------------------------------------------------------*/
+	static <T extends Enum<T>> void submit(Map<String, T> entries, Consumer<EnumKeyIndex> consumer)
+	{
+		String[] keys = new String[entries.size()];
+		int[] ordinals = new int[entries.size()];
+
+		int i = 0;
+		for (Map.Entry<String, T> entry : entries.entrySet()) {
+			keys[i] = entry.getKey();
+			ordinals[i] = entry.getValue().ordinal();
+			i++;
+		}
+
+		if (keys.length <= MAX_KEYS) {
+			Background.EXECUTOR.execute(() -> {
+				EnumKeyIndex generated = generate(keys, ordinals);
+				if (null != generated) {
+					consumer.accept(generated);
+				}
+			});
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		keys[i] maps to ordinals[i]. Keys must be distinct.
+		Returns null if the class couldn't be defined.
+	 -------------------------------------------------------------------------------------------*/
+	static EnumKeyIndex generate(String[] keys, int[] ordinals)
+	{
+		EnumKeyIndex result = null;
+
+		try {
+			String className = CLASS_PREFIX + SEQUENCE.incrementAndGet();
+			byte[] bytes = classBytes(className, keys, ordinals);
+			Class<?> generated = new IndexLoader().define(className.replace('/', '.'), bytes);
+			result = (EnumKeyIndex) generated.getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException | LinkageError | RuntimeException ignored) {
+			//Ignored, the generic index stays
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The class file of an index, see generate.
+	 -------------------------------------------------------------------------------------------*/
+	static byte[] classBytes(String className, String[] keys, int[] ordinals)
+	{
+		//The keys of each hash, sorted by hash as a lookupswitch needs
+		Map<Integer, int[]> byHash = new TreeMap<>();
+		for (int i = 0; i < keys.length; i++) {
+			byHash.merge(keys[i].hashCode(), new int[] {i}, KeySwitchGenerator::append);
+		}
+
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V11, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC, className, null,
+		         INDEX, null);
+
+		MethodVisitor init = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		init.visitCode();
+		init.visitVarInsn(Opcodes.ALOAD, 0);
+		init.visitMethodInsn(Opcodes.INVOKESPECIAL, INDEX, "<init>", "()V", false);
+		init.visitInsn(Opcodes.RETURN);
+		init.visitMaxs(0, 0);
+		init.visitEnd();
+
+		List<TreeMap<Integer, int[]>> buckets = buckets(byHash);
+		writeStringLookup(cw, className, buckets, keys, ordinals);
+		writeCharsLookup(cw, className, buckets, keys, ordinals);
+
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Splits the hashes, in order, into runs of at most KEYS_PER_METHOD keys.
+		A hash is never split, its keys are compared in one method.
+	 -------------------------------------------------------------------------------------------*/
+	private static List<TreeMap<Integer, int[]>> buckets(Map<Integer, int[]> byHash)
+	{
+		List<TreeMap<Integer, int[]>> result = new ArrayList<>();
+		TreeMap<Integer, int[]> bucket = new TreeMap<>();
+		int bucketKeys = 0;
+
+		for (Map.Entry<Integer, int[]> entry : byHash.entrySet()) {
+			if ((bucketKeys > 0) && (bucketKeys + entry.getValue().length > KEYS_PER_METHOD)) {
+				result.add(bucket);
+				bucket = new TreeMap<>();
+				bucketKeys = 0;
+			}
+			bucket.put(entry.getKey(), entry.getValue());
+			bucketKeys += entry.getValue().length;
+		}
+		result.add(bucket);
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		int ordinalOf(String key)
+		Locals: 1 key, 2 hash
+	 -------------------------------------------------------------------------------------------*/
+	private static void writeStringLookup(ClassWriter cw, String className, List<TreeMap<Integer, int[]>> buckets, String[] keys, int[] ordinals)
+	{
+		String descriptor = "(L" + STRING + ";I)I";
+		KeyTest test = (mv, key, next) -> {
+			mv.visitVarInsn(Opcodes.ALOAD, 1);
+			mv.visitLdcInsn(key);
+			mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING, "equals", "(Ljava/lang/Object;)Z", false);
+			mv.visitJumpInsn(Opcodes.IFEQ, next);
+		};
+
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "ordinalOf", "(L" + STRING + ";)I", null, null);
+		mv.visitCode();
+
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, STRING, "hashCode", "()I", false);
+
+		if (buckets.size() == 1) {
+			writeSwitch(mv, buckets.get(0), keys, ordinals, test);
+		}
+		else {
+			mv.visitVarInsn(Opcodes.ISTORE, 2);
+			writeDispatch(mv, className, descriptor, buckets, 2, arguments -> {
+				arguments.visitVarInsn(Opcodes.ALOAD, 1);
+				arguments.visitVarInsn(Opcodes.ILOAD, 2);
+			});
+		}
+
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		for (int i = 0; (buckets.size() > 1) && (i < buckets.size()); i++) {
+			writeBucket(cw, descriptor, i, 2, buckets.get(i), keys, ordinals, test);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		int ordinalOf(char[] chars, int offset, int length)
+		Locals: 1 chars, 2 offset, 3 length, 4 hash, 5 index, 6 end
+	 -------------------------------------------------------------------------------------------*/
+	private static void writeCharsLookup(ClassWriter cw, String className, List<TreeMap<Integer, int[]>> buckets, String[] keys, int[] ordinals)
+	{
+		String descriptor = "([CIII)I";
+		KeyTest test = (mv, key, next) -> {
+			mv.visitLdcInsn(key);
+			mv.visitVarInsn(Opcodes.ALOAD, 1);
+			mv.visitVarInsn(Opcodes.ILOAD, 2);
+			mv.visitVarInsn(Opcodes.ILOAD, 3);
+			mv.visitMethodInsn(Opcodes.INVOKESTATIC, INDEX, "matches", "(L" + STRING + ";[CII)Z", false);
+			mv.visitJumpInsn(Opcodes.IFEQ, next);
+		};
+
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "ordinalOf", "([CII)I", null, null);
+		mv.visitCode();
+
+		//The String.hashCode of the characters
+		mv.visitInsn(Opcodes.ICONST_0);
+		mv.visitVarInsn(Opcodes.ISTORE, 4);
+		mv.visitVarInsn(Opcodes.ILOAD, 2);
+		mv.visitVarInsn(Opcodes.ISTORE, 5);
+		mv.visitVarInsn(Opcodes.ILOAD, 2);
+		mv.visitVarInsn(Opcodes.ILOAD, 3);
+		mv.visitInsn(Opcodes.IADD);
+		mv.visitVarInsn(Opcodes.ISTORE, 6);
+
+		Label loop = new Label();
+		Label hashed = new Label();
+		mv.visitLabel(loop);
+		mv.visitVarInsn(Opcodes.ILOAD, 5);
+		mv.visitVarInsn(Opcodes.ILOAD, 6);
+		mv.visitJumpInsn(Opcodes.IF_ICMPGE, hashed);
+		mv.visitIntInsn(Opcodes.BIPUSH, 31);
+		mv.visitVarInsn(Opcodes.ILOAD, 4);
+		mv.visitInsn(Opcodes.IMUL);
+		mv.visitVarInsn(Opcodes.ALOAD, 1);
+		mv.visitVarInsn(Opcodes.ILOAD, 5);
+		mv.visitInsn(Opcodes.CALOAD);
+		mv.visitInsn(Opcodes.IADD);
+		mv.visitVarInsn(Opcodes.ISTORE, 4);
+		mv.visitIincInsn(5, 1);
+		mv.visitJumpInsn(Opcodes.GOTO, loop);
+
+		mv.visitLabel(hashed);
+
+		if (buckets.size() == 1) {
+			mv.visitVarInsn(Opcodes.ILOAD, 4);
+			writeSwitch(mv, buckets.get(0), keys, ordinals, test);
+		}
+		else {
+			writeDispatch(mv, className, descriptor, buckets, 4, arguments -> {
+				arguments.visitVarInsn(Opcodes.ALOAD, 1);
+				arguments.visitVarInsn(Opcodes.ILOAD, 2);
+				arguments.visitVarInsn(Opcodes.ILOAD, 3);
+				arguments.visitVarInsn(Opcodes.ILOAD, 4);
+			});
+		}
+
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		for (int i = 0; (buckets.size() > 1) && (i < buckets.size()); i++) {
+			writeBucket(cw, descriptor, i, 4, buckets.get(i), keys, ordinals, test);
+		}
+	}
+
+	private interface KeyTest
+	{
+
+		/*-------------------------------------------------------------------------------------------
+			Writes a comparison of the json value with the key that jumps to next if they differ.
+		 -------------------------------------------------------------------------------------------*/
+		void write(MethodVisitor mv, String key, Label next);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Calls the bucket method whose hashes include the hash in local hashLocal:
+			if (h <= last hash of bucket 0) return ordinalOf$0(..., h); ...
+			return ordinalOf$n(..., h);
+		arguments loads the parameters of the bucket methods after this.
+	 -------------------------------------------------------------------------------------------*/
+	private static void writeDispatch(MethodVisitor mv, String className, String descriptor, List<TreeMap<Integer, int[]>> buckets,
+	                                  int hashLocal, Consumer<MethodVisitor> arguments)
+	{
+		for (int i = 0; i < buckets.size(); i++) {
+			Label next = new Label();
+			boolean last = (i == buckets.size() - 1);
+
+			if (!last) {
+				mv.visitVarInsn(Opcodes.ILOAD, hashLocal);
+				mv.visitLdcInsn(buckets.get(i).lastKey());
+				mv.visitJumpInsn(Opcodes.IF_ICMPGT, next);
+			}
+
+			mv.visitVarInsn(Opcodes.ALOAD, 0);
+			arguments.accept(mv);
+			mv.visitMethodInsn(Opcodes.INVOKESPECIAL, className, BUCKET_PREFIX + i, descriptor, false);
+			mv.visitInsn(Opcodes.IRETURN);
+
+			if (!last) {
+				mv.visitLabel(next);
+			}
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		private int ordinalOf$index(..., int hash), the switch on the hashes of one bucket.
+		The parameters are in the locals of the public method, hash in hashLocal.
+	 -------------------------------------------------------------------------------------------*/
+	private static void writeBucket(ClassWriter cw, String descriptor, int index, int hashLocal, Map<Integer, int[]> bucket,
+	                                String[] keys, int[] ordinals, KeyTest test)
+	{
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC, BUCKET_PREFIX + index, descriptor, null, null);
+		mv.visitCode();
+
+		mv.visitVarInsn(Opcodes.ILOAD, hashLocal);
+		writeSwitch(mv, bucket, keys, ordinals, test);
+
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Writes the lookupswitch on the hash that is on the stack, and the returns.
+	 -------------------------------------------------------------------------------------------*/
+	private static void writeSwitch(MethodVisitor mv, Map<Integer, int[]> byHash, String[] keys, int[] ordinals, KeyTest test)
+	{
+		int[] hashes = new int[byHash.size()];
+		Label[] cases = new Label[byHash.size()];
+		Label notFound = new Label();
+
+		int i = 0;
+		for (Integer hash : byHash.keySet()) {
+			hashes[i] = hash;
+			cases[i] = new Label();
+			i++;
+		}
+
+		mv.visitLookupSwitchInsn(notFound, hashes, cases);
+
+		i = 0;
+		for (int[] candidates : byHash.values()) {
+			mv.visitLabel(cases[i++]);
+			for (int candidate : candidates) {
+				Label next = new Label();
+				test.write(mv, keys[candidate], next);
+				pushInt(mv, ordinals[candidate]);
+				mv.visitInsn(Opcodes.IRETURN);
+				mv.visitLabel(next);
+			}
+			mv.visitJumpInsn(Opcodes.GOTO, notFound);
+		}
+
+		mv.visitLabel(notFound);
+		mv.visitInsn(Opcodes.ICONST_M1);
+		mv.visitInsn(Opcodes.IRETURN);
+	}
+
+	private static void pushInt(MethodVisitor mv, int value)
+	{
+		if ((value >= -1) && (value <= 5)) {
+			mv.visitInsn(Opcodes.ICONST_0 + value);
+		}
+		else if ((value >= Byte.MIN_VALUE) && (value <= Byte.MAX_VALUE)) {
+			mv.visitIntInsn(Opcodes.BIPUSH, value);
+		}
+		else if ((value >= Short.MIN_VALUE) && (value <= Short.MAX_VALUE)) {
+			mv.visitIntInsn(Opcodes.SIPUSH, value);
+		}
+		else {
+			mv.visitLdcInsn(value);
+		}
+	}
+
+	private static int[] append(int[] first, int[] second)
+	{
+		int[] result = new int[first.length + second.length];
+		System.arraycopy(first, 0, result, 0, first.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Defines one generated class. KeySwitchIndex is found through the library's class loader.
+	 -------------------------------------------------------------------------------------------*/
+	private static final class IndexLoader extends ClassLoader
+	{
+
+		IndexLoader()
+		{
+			super(KeySwitchIndex.class.getClassLoader());
+		}
+
+		Class<?> define(String name, byte[] bytes)
+		{
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Created the first time a class is generated, never when generation is off.
+	 -------------------------------------------------------------------------------------------*/
+	private static final class Background
+	{
+
+		static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "EnumJson-KeySwitchGenerator");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
@@ -0,0 +1,36 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.KeySwitchIndex
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	KeySwitchIndex is the superclass of every index KeySwitchGenerator generates.
+
+	A generated class is defined in a class loader of its own, so it is not in this library's
+	runtime package and can't see the package private EnumKeyIndex. It extends this class instead,
+	which is public for that reason only, it isn't meant to be used or extended by anything else.
+ */
+
+public abstract class KeySwitchIndex implements EnumKeyIndex
+{
+
+	protected KeySwitchIndex()
+	{
+	}
+
+	@Override
+	public abstract int ordinalOf(String key);
+
+	@Override
+	public abstract int ordinalOf(char[] chars, int offset, int length);
+
+	/*-------------------------------------------------------------------------------------------
+		EnumKeyIndex.matches, for the generated classes.
+	 -------------------------------------------------------------------------------------------*/
+	protected static boolean matches(String key, char[] chars, int offset, int length)
+	{
+		return EnumKeyIndex.matches(key, chars, offset, length);
+	}
+}
@@ -0,0 +1,121 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.LongKeyIndex
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	LongKeyIndex maps an integral json number to an enum ordinal with primitive keys, nothing is boxed.
+	It is the numeric twin of HashKeyIndex, so a VALUE_NUMBER_INT token is matched
+	without turning the number into text.
+
+	Keys in a small range, E.g. status codes 100 to 599, are kept in a dense array indexed by
+	key - min. Sparse keys are kept in an open addressing table of longs.
+
+	The table is immutable once built.
+ */
+
+import java.util.Arrays;
+
+final class LongKeyIndex
+{
+
+	//A dense array is used while it is no more than this many times the number of keys.
+	private static final int DENSE_SPREAD = 4;
+	private static final int DENSE_MINIMUM = 64;
+
+	private final long min;
+	private final long max;
+	private final int[] dense;
+
+	private final long[] keys;
+	private final int[] ordinals;
+	private final int mask;
+
+	/*-------------------------------------------------------------------------------------------
+		keys[i] maps to ordinals[i]. Keys must be distinct.
+	 -------------------------------------------------------------------------------------------*/
+	LongKeyIndex(long[] keys, int[] ordinals)
+	{
+		long low = 0;
+		long high = -1;
+		if (keys.length > 0) {
+			low = Arrays.stream(keys).min().getAsLong();
+			high = Arrays.stream(keys).max().getAsLong();
+		}
+
+		//high - low can overflow for keys at both ends of the long range, which is sparse anyway.
+		long range = high - low;
+		boolean isDense = (range >= 0) && (range < Math.max(DENSE_MINIMUM, (long) keys.length * DENSE_SPREAD));
+
+		this.min = low;
+		this.max = high;
+
+		if (isDense) {
+			this.dense = new int[(int) (range + 1)];
+			Arrays.fill(this.dense, EnumKeyIndex.NOT_FOUND);
+			for (int i = 0; i < keys.length; i++) {
+				this.dense[(int) (keys[i] - low)] = ordinals[i];
+			}
+
+			this.keys = null;
+			this.ordinals = null;
+			this.mask = 0;
+		}
+		else {
+			//Keep the load factor at or below one half so probe sequences stay short.
+			int capacity = Integer.highestOneBit(Math.max(keys.length, 1)) << 2;
+
+			this.dense = null;
+			this.keys = new long[capacity];
+			this.ordinals = new int[capacity];
+			this.mask = capacity - 1;
+
+			//Zero is a valid key, an empty slot is one with no ordinal.
+			Arrays.fill(this.ordinals, EnumKeyIndex.NOT_FOUND);
+
+			for (int i = 0; i < keys.length; i++) {
+				int slot = spread(keys[i]) & mask;
+				while (EnumKeyIndex.NOT_FOUND != this.ordinals[slot]) {
+					slot = (slot + 1) & mask;
+				}
+				this.keys[slot] = keys[i];
+				this.ordinals[slot] = ordinals[i];
+			}
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Returns the ordinal the key maps to, or EnumKeyIndex.NOT_FOUND.
+	 -------------------------------------------------------------------------------------------*/
+	int ordinalOf(long key)
+	{
+		int result = EnumKeyIndex.NOT_FOUND;
+
+		if ((key >= min) && (key <= max)) {
+			if (null != dense) {
+				result = dense[(int) (key - min)];
+			}
+			else {
+				int slot = spread(key) & mask;
+				int ordinal;
+				while (EnumKeyIndex.NOT_FOUND != (ordinal = ordinals[slot])) {
+					if (keys[slot] == key) {
+						result = ordinal;
+						break;
+					}
+					slot = (slot + 1) & mask;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static int spread(long key)
+	{
+		long h = key * 0x9e3779b97f4a7c15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,218 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.PerfectHashKeyIndex
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	PerfectHashKeyIndex is a minimal perfect hash from a json key to an enum ordinal,
+	meant for enums generated from large catalogs.
+
+	It uses hash and displace. Keys are first hashed into buckets of about four keys.
+	Each bucket then gets a seed, chosen so that every key of the bucket lands on a free slot.
+	There are exactly as many slots as keys, so the table is three compact arrays:
+		keys     one slot per key, used to reject a key that is not in the table
+		ordinals one char per key, an enum has at most 65535 constants
+		seeds    one int per bucket
+
+	A lookup is two hashes of the key, one slot read and one equals.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+final class PerfectHashKeyIndex implements EnumKeyIndex
+{
+
+	private static final int KEYS_PER_BUCKET = 4;
+	private static final int MAX_SEED = 1 << 16;
+
+	private final String[] keys;
+	private final char[] ordinals;
+	private final int[] seeds;
+
+	private PerfectHashKeyIndex(String[] keys, char[] ordinals, int[] seeds)
+	{
+		this.keys = keys;
+		this.ordinals = ordinals;
+		this.seeds = seeds;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Builds the table, doubling the number of buckets if a bucket can't be placed.
+		Falls back to a HashKeyIndex if no table can be found, which needs
+		a pathological set of keys.
+	 -------------------------------------------------------------------------------------------*/
+	static EnumKeyIndex build(String[] keys, int[] ordinals)
+	{
+		EnumKeyIndex result = null;
+
+		int bucketCount = Math.max(1, keys.length / KEYS_PER_BUCKET);
+		while ((null == result) && (bucketCount <= Math.max(1, keys.length) * 2)) {
+			result = tryBuild(keys, ordinals, bucketCount);
+			bucketCount *= 2;
+		}
+
+		if (null == result) {
+			result = new HashKeyIndex(keys, ordinals);
+		}
+
+		return result;
+	}
+
+	@Override
+	public int ordinalOf(String key)
+	{
+		int result = NOT_FOUND;
+
+		if (0 != keys.length) {
+			int seed = seeds[reduce(hash(0, key), seeds.length)];
+			int slot = reduce(hash(seed, key), keys.length);
+			if (keys[slot].equals(key)) {
+				result = ordinals[slot];
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public int ordinalOf(char[] chars, int offset, int length)
+	{
+		int result = NOT_FOUND;
+
+		if (0 != keys.length) {
+			int seed = seeds[reduce(hash(0, chars, offset, length), seeds.length)];
+			int slot = reduce(hash(seed, chars, offset, length), keys.length);
+			if (EnumKeyIndex.matches(keys[slot], chars, offset, length)) {
+				result = ordinals[slot];
+			}
+		}
+
+		return result;
+	}
+
+	private static PerfectHashKeyIndex tryBuild(String[] keys, int[] ordinals, int bucketCount)
+	{
+		int n = keys.length;
+
+		//-------------------------------------------------------------------------------------------
+		//Hash every key into its bucket.
+		List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+		for (int b = 0; b < bucketCount; b++) {
+			buckets.add(new ArrayList<>(KEYS_PER_BUCKET));
+		}
+		for (int i = 0; i < n; i++) {
+			buckets.get(reduce(hash(0, keys[i]), bucketCount)).add(i);
+		}
+
+		//-------------------------------------------------------------------------------------------
+		//Place the largest buckets first, they are the hardest to fit.
+		Integer[] order = new Integer[bucketCount];
+		for (int b = 0; b < bucketCount; b++) {
+			order[b] = b;
+		}
+		Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+		String[] slotKeys = new String[n];
+		char[] slotOrdinals = new char[n];
+		int[] seeds = new int[bucketCount];
+		int[] slots = new int[KEYS_PER_BUCKET];
+
+		for (Integer b : order) {
+			List<Integer> bucket = buckets.get(b);
+			if (bucket.isEmpty()) {
+				break;
+			}
+			if (slots.length < bucket.size()) {
+				slots = new int[bucket.size()];
+			}
+
+			int seed = findSeed(keys, bucket, slotKeys, slots);
+			if (seed < 0) {
+				return null;
+			}
+
+			seeds[b] = seed;
+			for (int k = 0; k < bucket.size(); k++) {
+				int i = bucket.get(k);
+				slotKeys[slots[k]] = keys[i];
+				slotOrdinals[slots[k]] = (char) ordinals[i];
+			}
+		}
+
+		return new PerfectHashKeyIndex(slotKeys, slotOrdinals, seeds);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Finds a seed that sends every key of the bucket to a distinct free slot.
+		The slots are left in slots, the result is -1 if there is no such seed.
+	 -------------------------------------------------------------------------------------------*/
+	private static int findSeed(String[] keys, List<Integer> bucket, String[] slotKeys, int[] slots)
+	{
+		int result = -1;
+
+		for (int seed = 1; (result < 0) && (seed < MAX_SEED); seed++) {
+			boolean fits = true;
+			for (int k = 0; (fits) && (k < bucket.size()); k++) {
+				int slot = reduce(hash(seed, keys[bucket.get(k)]), slotKeys.length);
+				if (null != slotKeys[slot]) {
+					fits = false;
+				}
+				for (int j = 0; (fits) && (j < k); j++) {
+					if (slots[j] == slot) {
+						fits = false;
+					}
+				}
+				slots[k] = slot;
+			}
+			if (fits) {
+				result = seed;
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A seeded FNV-1a hash with a murmur finalizer so that nearby seeds give unrelated hashes.
+	 -------------------------------------------------------------------------------------------*/
+	private static int hash(int seed, String key)
+	{
+		int h = 0x811c9dc5 ^ (seed * 0x9e3779b9);
+		for (int i = 0; i < key.length(); i++) {
+			h = (h ^ key.charAt(i)) * 0x01000193;
+		}
+		return finish(h);
+	}
+
+	private static int hash(int seed, char[] chars, int offset, int length)
+	{
+		int h = 0x811c9dc5 ^ (seed * 0x9e3779b9);
+		for (int i = offset; i < offset + length; i++) {
+			h = (h ^ chars[i]) * 0x01000193;
+		}
+		return finish(h);
+	}
+
+	private static int finish(int hash)
+	{
+		int h = hash;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Maps a hash onto [0, range) without a division.
+	 -------------------------------------------------------------------------------------------*/
+	private static int reduce(int hash, int range)
+	{
+		return (int) (((hash & 0xffffffffL) * range) >>> 32);
+	}
+}
@@ -0,0 +1,64 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.StandardKeyNormalizer
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	StandardKeyNormalizer applies the EnumJson.Normalization values of an annotation together,
+	in one pass over the json value:
+		TRIM                  drops leading and trailing whitespace, E.g. " WILDCARD "
+		SEPARATOR_INSENSITIVE drops - _ . and space, E.g. "wild-card" or "Wild_Card"
+		CASE_FOLD             folds case the way deserializeCaseInsensitive does
+ */
+
+import java.util.Set;
+import org.example.EnumJson.Normalization;
+
+final class StandardKeyNormalizer implements EnumKeyNormalizer
+{
+
+	private final boolean trim;
+	private final boolean separatorInsensitive;
+	private final boolean caseFold;
+
+	StandardKeyNormalizer(Set<Normalization> normalizations)
+	{
+		this.trim = normalizations.contains(Normalization.TRIM);
+		this.separatorInsensitive = normalizations.contains(Normalization.SEPARATOR_INSENSITIVE);
+		this.caseFold = normalizations.contains(Normalization.CASE_FOLD);
+	}
+
+	@Override
+	public int normalize(char[] chars, int offset, int length, char[] buffer)
+	{
+		int start = offset;
+		int end = offset + length;
+
+		if (trim) {
+			//The whitespace String.trim removes
+			while ((start < end) && (chars[start] <= ' ')) {
+				start++;
+			}
+			while ((end > start) && (chars[end - 1] <= ' ')) {
+				end--;
+			}
+		}
+
+		int result = 0;
+		for (int i = start; i < end; i++) {
+			char c = chars[i];
+			if ((!separatorInsensitive) || (!isSeparator(c))) {
+				buffer[result++] = (caseFold) ? EnumLookup.foldChar(c) : c;
+			}
+		}
+
+		return result;
+	}
+
+	private static boolean isSeparator(char c)
+	{
+		return (c == '-') || (c == '_') || (c == '.') || (c == ' ');
+	}
+}
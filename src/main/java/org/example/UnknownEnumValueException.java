@@ -0,0 +1,58 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.UnknownEnumValueException
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	UnknownEnumValueException is thrown for a json value that matches no constant of an enum
+	with the UnknownValue.FAIL policy.
+
+	A new instance is thrown for every miss, so callers can add suppressed exceptions or a cause
+	to it without touching the failures of other requests. It has no stack trace and its message
+	is built once per deserializer, so a burst of unknown values costs one small allocation and
+	no stack walk or message formatting. The message names the enum but not the value, the value
+	is in the LookupMiss JFR event.
+
+	Jackson wraps it in a JsonMappingException with the property path when it is thrown for
+	a property of a bean, unless DeserializationFeature.WRAP_EXCEPTIONS is disabled.
+ */
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+public class UnknownEnumValueException extends JsonProcessingException
+{
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Class<?> enumClass;
+
+	UnknownEnumValueException(Class<?> enumClass, String message)
+	{
+		super(message);
+		this.enumClass = enumClass;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The message of every exception for enumClass, built once by the deserializer.
+	 -------------------------------------------------------------------------------------------*/
+	static String messageFor(Class<?> enumClass)
+	{
+		return "Unknown value for enum " + enumClass.getName();
+	}
+
+	public Class<?> getEnumClass()
+	{
+		return enumClass;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A miss is bad input, not a bug, the stack walk would cost more than the rest of the throw.
+	 -------------------------------------------------------------------------------------------*/
+	@Override
+	public synchronized Throwable fillInStackTrace()
+	{
+		return this;
+	}
+}
@@ -0,0 +1,557 @@
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonProcessor
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+package org.example;
+
+/*
+	EnumJsonProcessor generates an EnumJsonCodec at build time for every enum annotated with
+	EnumJson, or with an annotation that is itself annotated with EnumJson.
+
+	The generated codec has
+		the constants and their pre encoded names in static arrays,
+		a switch on the length and then on a distinguishing character to find a name,
+		direct reads of the VALUE and ALIAS fields.
+	EnumMetadata loads it in place of reflection, see EnumJsonCodec.
+
+	The VALUE and ALIAS fields are resolved the same way EnumMetadata resolves them.
+	The values of the fields are set by the enum's constructor, which the processor can't see,
+	so they are read from the constants, not compiled into the codec.
+
+	An enum is skipped, with a note, when the codec couldn't read it from its package.
+	E.g. a private VALUE field, or an enum nested in a private class. It keeps the reflective path.
+
+	The binary name of every EnumJson enum, with or without a codec, is listed in the resource
+	META-INF/org.example.EnumJson.index for EnumJsonWarmup.
+
+	The processor doesn't depend on the library classes, it only refers to them by name.
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+@SupportedAnnotationTypes("*")
+public class EnumJsonProcessor extends AbstractProcessor
+{
+
+	private static final String ENUM_JSON = "org.example.EnumJson";
+	private static final String CODEC = "org.example.EnumJsonCodec";
+	private static final String CODEC_SUFFIX = "_EnumJsonCodec";
+	private static final String PROJECTION = "org.example.EnumJson.Projection";
+	private static final String SERIALIZED_STRING = "com.fasterxml.jackson.core.io.SerializedString";
+	private static final String SERIALIZABLE_STRING = "com.fasterxml.jackson.core.SerializableString";
+	private static final String GENERATED = "javax.annotation.processing.Generated";
+	private static final String INDEX_RESOURCE = "META-INF/org.example.EnumJson.index";
+
+	private static final String VALUE = "VALUE";
+	private static final String ALIAS = "ALIAS";
+
+	private final Set<String> generated = new HashSet<>();
+	private final Set<String> indexed = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Never claims an annotation, so other processors still see every element.
+	 -------------------------------------------------------------------------------------------*/
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		if (null != processingEnv.getElementUtils().getTypeElement(ENUM_JSON)) {
+			for (Element root : roundEnv.getRootElements()) {
+				visit(root);
+			}
+
+			if ((roundEnv.processingOver()) && (!indexed.isEmpty())) {
+				writeIndex();
+			}
+		}
+
+		return false;
+	}
+
+	private void writeIndex()
+	{
+		try (Writer writer = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE).openWriter()) {
+			for (String binaryName : indexed) {
+				writer.write(binaryName);
+				writer.write('\n');
+			}
+		}
+		catch (IOException e) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + INDEX_RESOURCE + ": " + e.getMessage());
+		}
+	}
+
+	private void visit(Element element)
+	{
+		if (element.getKind() == ElementKind.ENUM) {
+			AnnotationMirror classAnnotation = findClassAnnotation(element);
+			if (null != classAnnotation) {
+				generate((TypeElement) element, classAnnotation);
+			}
+		}
+
+		for (Element enclosed : element.getEnclosedElements()) {
+			if ((enclosed.getKind().isClass()) || (enclosed.getKind().isInterface())) {
+				visit(enclosed);
+			}
+		}
+	}
+
+	private void generate(TypeElement enumType, AnnotationMirror classAnnotation)
+	{
+		String binaryName = processingEnv.getElementUtils().getBinaryName(enumType).toString();
+		String packageName = processingEnv.getElementUtils().getPackageOf(enumType).getQualifiedName().toString();
+		String codecName = binaryName.replace('$', '_') + CODEC_SUFFIX;
+		String simpleName = codecName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1);
+
+		indexed.add(binaryName);
+
+		if (generated.add(codecName)) {
+			VariableElement valueField = resolveField(enumType, classAnnotation, VALUE);
+			VariableElement aliasField = resolveField(enumType, classAnnotation, ALIAS);
+
+			String skipped = null;
+			if (!isReachable(enumType)) {
+				skipped = "the enum is private or nested in a private class";
+			}
+			else if (!isReadable(valueField)) {
+				skipped = "field " + valueField.getSimpleName() + " can't be read from package " + packageName;
+			}
+			else if (!isReadable(aliasField)) {
+				skipped = "field " + aliasField.getSimpleName() + " can't be read from package " + packageName;
+			}
+
+			if (null != skipped) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+				                                         "No EnumJsonCodec generated, " + skipped + ". " +
+				                                         "The enum is read through reflection.", enumType);
+			}
+			else {
+				List<String> names = new ArrayList<>();
+				for (Element enclosed : enumType.getEnclosedElements()) {
+					if (enclosed.getKind() == ElementKind.ENUM_CONSTANT) {
+						names.add(enclosed.getSimpleName().toString());
+					}
+				}
+
+				String source = codecSource(packageName, simpleName, enumType.getQualifiedName().toString(), names, valueField, aliasField);
+				try (Writer writer = processingEnv.getFiler().createSourceFile(codecName, enumType).openWriter()) {
+					writer.write(source);
+				}
+				catch (IOException e) {
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					                                         "Unable to write " + codecName + ": " + e.getMessage(), enumType);
+				}
+			}
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The same lookup as EnumMetadata.findClassAnnotation.
+	 -------------------------------------------------------------------------------------------*/
+	private static AnnotationMirror findClassAnnotation(Element enumType)
+	{
+		AnnotationMirror result = findAnnotation(enumType);
+
+		if (null == result) {
+			for (AnnotationMirror annotation : enumType.getAnnotationMirrors()) {
+				result = findAnnotation(annotation.getAnnotationType().asElement());
+				if (null != result) {
+					break;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private static AnnotationMirror findAnnotation(Element element)
+	{
+		AnnotationMirror result = null;
+
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+			if (type.getQualifiedName().contentEquals(ENUM_JSON)) {
+				result = annotation;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The same order as EnumMetadata.resolveField.
+			1) The field named by deserializationValueFieldName or deserializationAliasFieldName
+			2) The first field with an EnumJson annotation of that Projection
+			3) The field named value or alias
+	 -------------------------------------------------------------------------------------------*/
+	private VariableElement resolveField(TypeElement enumType, AnnotationMirror classAnnotation, String projection)
+	{
+		VariableElement result = null;
+
+		String attribute = (VALUE.equals(projection)) ? "deserializationValueFieldName" : "deserializationAliasFieldName";
+		String fieldName = String.valueOf(attributeValue(classAnnotation, attribute));
+		if (!"".equals(fieldName)) {
+			result = findFieldByName(enumType, fieldName);
+		}
+
+		if (null == result) {
+			for (Element enclosed : enumType.getEnclosedElements()) {
+				if ((enclosed.getKind() == ElementKind.FIELD) || (enclosed.getKind() == ElementKind.ENUM_CONSTANT)) {
+					AnnotationMirror annie = findAnnotation(enclosed);
+					if ((null != annie) && (projection.equals(String.valueOf(attributeValue(annie, "serializeProjection"))))) {
+						result = (VariableElement) enclosed;
+						break;
+					}
+				}
+			}
+		}
+
+		if (null == result) {
+			//Look for field by field name, not by annotation
+			result = findFieldByName(enumType, projection.toLowerCase());
+		}
+
+		return result;
+	}
+
+	private static VariableElement findFieldByName(TypeElement enumType, String fieldName)
+	{
+		VariableElement result = null;
+
+		for (Element enclosed : enumType.getEnclosedElements()) {
+			if ((enclosed.getKind() == ElementKind.FIELD) && (enclosed.getSimpleName().contentEquals(fieldName))) {
+				result = (VariableElement) enclosed;
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The value of an annotation attribute, its default if it isn't set.
+		An enum value is returned as its constant, so its String is the constant's name.
+	 -------------------------------------------------------------------------------------------*/
+	private Object attributeValue(AnnotationMirror annotation, String attribute)
+	{
+		Object result = null;
+
+		Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+				result = entry.getValue().getValue();
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		True if no class from the element out to its package is private.
+	 -------------------------------------------------------------------------------------------*/
+	private static boolean isReachable(Element element)
+	{
+		boolean result = true;
+
+		for (Element e = element; (result) && (null != e) && !(e instanceof PackageElement); e = e.getEnclosingElement()) {
+			result = !e.getModifiers().contains(Modifier.PRIVATE);
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		True if there is no field, or the codec can read it and name its type.
+	 -------------------------------------------------------------------------------------------*/
+	private boolean isReadable(VariableElement field)
+	{
+		boolean result = true;
+
+		if (null != field) {
+			result = (!field.getModifiers().contains(Modifier.PRIVATE)) && (!field.getModifiers().contains(Modifier.STATIC));
+
+			TypeMirror type = processingEnv.getTypeUtils().erasure(field.asType());
+			while ((result) && (type.getKind() == TypeKind.ARRAY)) {
+				type = ((ArrayType) type).getComponentType();
+			}
+			if ((result) && (type.getKind() == TypeKind.DECLARED)) {
+				result = isReachable(((DeclaredType) type).asElement());
+			}
+		}
+
+		return result;
+	}
+
+	private String codecSource(String packageName, String simpleName, String enumName, List<String> names,
+	                           VariableElement valueField, VariableElement aliasField)
+	{
+		StringBuilder out = new StringBuilder();
+
+		if (!packageName.isEmpty()) {
+			out.append("package ").append(packageName).append(";\n\n");
+		}
+
+		if (null != processingEnv.getElementUtils().getTypeElement(GENERATED)) {
+			out.append("@").append(GENERATED).append("(\"").append(EnumJsonProcessor.class.getName()).append("\")\n");
+		}
+		out.append("public final class ").append(simpleName).append(" implements ").append(CODEC).append("<").append(enumName).append(">\n");
+		out.append("{\n\n");
+
+		out.append("\tprivate static final ").append(enumName).append("[] CONSTANTS = ").append(enumName).append(".values();\n\n");
+		out.append("\tprivate static final ").append(SERIALIZABLE_STRING).append("[] NAMES = {\n");
+		for (String name : names) {
+			out.append("\t\tnew ").append(SERIALIZED_STRING).append("(").append(literal(name)).append("),\n");
+		}
+		out.append("\t};\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic Class<").append(enumName).append("> enumClass()\n");
+		out.append("\t{\n");
+		out.append("\t\treturn ").append(enumName).append(".class;\n");
+		out.append("\t}\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic ").append(enumName).append("[] constants()\n");
+		out.append("\t{\n");
+		out.append("\t\treturn CONSTANTS;\n");
+		out.append("\t}\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic ").append(SERIALIZABLE_STRING).append("[] names()\n");
+		out.append("\t{\n");
+		out.append("\t\treturn NAMES;\n");
+		out.append("\t}\n\n");
+
+		appendNameOrdinal(out, names);
+
+		out.append("\t@Override\n");
+		out.append("\tpublic String fieldName(").append(PROJECTION).append(" projection)\n");
+		out.append("\t{\n");
+		out.append("\t\tString result = null;\n");
+		appendFieldBranches(out, valueField, aliasField, f -> literal(f.getSimpleName().toString()));
+		out.append("\t\treturn result;\n");
+		out.append("\t}\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic Class<?> fieldType(").append(PROJECTION).append(" projection)\n");
+		out.append("\t{\n");
+		out.append("\t\tClass<?> result = null;\n");
+		appendFieldBranches(out, valueField, aliasField, f -> processingEnv.getTypeUtils().erasure(f.asType()) + ".class");
+		out.append("\t\treturn result;\n");
+		out.append("\t}\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic Object fieldValue(").append(PROJECTION).append(" projection, ").append(enumName).append(" constant)\n");
+		out.append("\t{\n");
+		out.append("\t\tObject result = null;\n");
+		appendFieldBranches(out, valueField, aliasField, f -> "constant." + f.getSimpleName());
+		out.append("\t\treturn result;\n");
+		out.append("\t}\n\n");
+
+		out.append("\t@Override\n");
+		out.append("\tpublic long longFieldValue(").append(PROJECTION).append(" projection, ").append(enumName).append(" constant)\n");
+		out.append("\t{\n");
+		out.append("\t\tlong result = 0;\n");
+		appendFieldBranches(out, isIntegral(valueField) ? valueField : null, isIntegral(aliasField) ? aliasField : null,
+		                    f -> "constant." + f.getSimpleName());
+		out.append("\t\treturn result;\n");
+		out.append("\t}\n");
+
+		out.append("}\n");
+
+		return out.toString();
+	}
+
+	private interface FieldExpression
+	{
+
+		String of(VariableElement field);
+	}
+
+	private static void appendFieldBranches(StringBuilder out, VariableElement valueField, VariableElement aliasField, FieldExpression expression)
+	{
+		String keyword = "if";
+
+		if (null != valueField) {
+			out.append("\t\t").append(keyword).append(" (projection == ").append(PROJECTION).append(".").append(VALUE).append(") {\n");
+			out.append("\t\t\tresult = ").append(expression.of(valueField)).append(";\n");
+			out.append("\t\t}\n");
+			keyword = "else if";
+		}
+		if (null != aliasField) {
+			out.append("\t\t").append(keyword).append(" (projection == ").append(PROJECTION).append(".").append(ALIAS).append(") {\n");
+			out.append("\t\t\tresult = ").append(expression.of(aliasField)).append(";\n");
+			out.append("\t\t}\n");
+		}
+	}
+
+	private static boolean isIntegral(VariableElement field)
+	{
+		boolean result = false;
+
+		if (null != field) {
+			TypeKind kind = field.asType().getKind();
+			result = (kind == TypeKind.INT) || (kind == TypeKind.LONG) || (kind == TypeKind.SHORT) || (kind == TypeKind.BYTE);
+		}
+
+		return result;
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		A switch on the length, then on characters that tell the names of that length apart.
+		The last candidate is always compared in full.
+	 -------------------------------------------------------------------------------------------*/
+	private static void appendNameOrdinal(StringBuilder out, List<String> names)
+	{
+		Map<Integer, List<Integer>> byLength = new TreeMap<>();
+		for (int i = 0; i < names.size(); i++) {
+			byLength.computeIfAbsent(names.get(i).length(), k -> new ArrayList<>()).add(i);
+		}
+
+		out.append("\t@Override\n");
+		out.append("\tpublic int nameOrdinal(char[] chars, int offset, int length)\n");
+		out.append("\t{\n");
+		out.append("\t\tint result = -1;\n\n");
+		out.append("\t\tswitch (length) {\n");
+		for (Map.Entry<Integer, List<Integer>> entry : byLength.entrySet()) {
+			out.append("\t\t\tcase ").append(entry.getKey()).append(":\n");
+			appendCandidates(out, names, entry.getValue(), "\t\t\t\t");
+			out.append("\t\t\t\tbreak;\n");
+		}
+		out.append("\t\t\tdefault:\n");
+		out.append("\t\t\t\tbreak;\n");
+		out.append("\t\t}\n\n");
+		out.append("\t\treturn result;\n");
+		out.append("\t}\n\n");
+	}
+
+	private static void appendCandidates(StringBuilder out, List<String> names, List<Integer> candidates, String indent)
+	{
+		if (candidates.size() == 1) {
+			int ordinal = candidates.get(0);
+			out.append(indent).append("if (").append(CODEC).append(".matches(").append(literal(names.get(ordinal))).append(", chars, offset)) {\n");
+			out.append(indent).append("\tresult = ").append(ordinal).append(";\n");
+			out.append(indent).append("}\n");
+		}
+		else {
+			int position = distinguishingPosition(names, candidates);
+
+			Map<Character, List<Integer>> byChar = new LinkedHashMap<>();
+			for (int ordinal : candidates) {
+				byChar.computeIfAbsent(names.get(ordinal).charAt(position), k -> new ArrayList<>()).add(ordinal);
+			}
+
+			out.append(indent).append("switch (chars[offset + ").append(position).append("]) {\n");
+			for (Map.Entry<Character, List<Integer>> entry : byChar.entrySet()) {
+				out.append(indent).append("\tcase ").append(charLiteral(entry.getKey())).append(":\n");
+				appendCandidates(out, names, entry.getValue(), indent + "\t\t");
+				out.append(indent).append("\t\tbreak;\n");
+			}
+			out.append(indent).append("\tdefault:\n");
+			out.append(indent).append("\t\tbreak;\n");
+			out.append(indent).append("}\n");
+		}
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The position with the most distinct characters among names of the same length.
+		Distinct names of the same length differ in at least one position.
+	 -------------------------------------------------------------------------------------------*/
+	private static int distinguishingPosition(List<String> names, List<Integer> candidates)
+	{
+		int result = 0;
+		int best = 0;
+
+		int length = names.get(candidates.get(0)).length();
+		for (int position = 0; position < length; position++) {
+			Set<Character> distinct = new HashSet<>();
+			for (int ordinal : candidates) {
+				distinct.add(names.get(ordinal).charAt(position));
+			}
+			if (distinct.size() > best) {
+				best = distinct.size();
+				result = position;
+			}
+		}
+
+		return result;
+	}
+
+	private static String literal(String value)
+	{
+		StringBuilder result = new StringBuilder("\"");
+
+		for (int i = 0; i < value.length(); i++) {
+			result.append(escape(value.charAt(i)));
+		}
+
+		return result.append('"').toString();
+	}
+
+	private static String charLiteral(char c)
+	{
+		return "'" + escape(c) + "'";
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Non ASCII characters are written as unicode escapes, so the source doesn't depend on
+		the compiler's encoding. Control characters are written as octal escapes, a unicode
+		escape of a line terminator would end the literal.
+	 -------------------------------------------------------------------------------------------*/
+	private static String escape(char c)
+	{
+		String result;
+
+		if ((c == '"') || (c == '\'') || (c == '\\')) {
+			result = "\\" + c;
+		}
+		else if (c < 0x20) {
+			result = String.format("\\%03o", (int) c);
+		}
+		else if (c > 0x7e) {
+			result = String.format("\\u%04x", (int) c);
+		}
+		else {
+			result = String.valueOf(c);
+		}
+
+		return result;
+	}
+}
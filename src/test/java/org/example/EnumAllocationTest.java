@@ -0,0 +1,226 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+import org.example.EnumJson.Normalization;
+import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumAllocationTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+/*
+	Allocation budgets of the hot paths, in bytes per call once the path is warm.
+	A change that adds garbage to a path, E.g. copying the json value into a String,
+	fails here before it reaches a service's GC.
+
+	Bytes are counted with com.sun.management.ThreadMXBean over many calls, so the few bytes
+	the counter itself may allocate round down to zero per call.
+ */
+
+public class EnumAllocationTest
+{
+
+	private static final long LOOKUP_BUDGET = 0;
+	private static final long SERIALIZE_BUDGET = 0;
+	private static final long DESERIALIZE_BUDGET = 0;
+	//One stackless UnknownEnumValueException, its message is built once per deserializer.
+	private static final long FAIL_BUDGET = 64;
+
+	private static final int WARMUP_CALLS = 20_000;
+	private static final int MEASURED_CALLS = 20_000;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+	private com.sun.management.ThreadMXBean threads;
+	private Object sink;
+
+	@EnumJson(serializeProjection = Projection.VALUE)
+	enum Tone {
+		DARK(10, "dark"),
+		BRIGHT(20, "bright"),
+		MUTED(30, "muted");
+
+		final int value;
+		final String alias;
+
+		Tone(int value, String alias) {
+			this.value = value;
+			this.alias = alias;
+		}
+	}
+
+	static class Annotations {
+
+		@EnumJson(deserializeCaseInsensitive = true)
+		Tone ignoreCase;
+
+		@EnumJson(deserializationUnknownValue = UnknownValue.DEFAULT, deserializationDefault = "MUTED")
+		Tone orDefault;
+
+		@EnumJson(deserializationUnknownValue = UnknownValue.FAIL)
+		Tone orFail;
+	}
+
+	private interface Call {
+
+		void run() throws IOException;
+	}
+
+	@BeforeClass
+	public void setUp() {
+
+		if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+			throw new SkipException("Allocated bytes are not available on this JVM");
+		}
+
+		threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		if (!threads.isThreadAllocatedMemorySupported()) {
+			throw new SkipException("Allocated bytes are not available on this JVM");
+		}
+		threads.setThreadAllocatedMemoryEnabled(true);
+	}
+
+	@Test
+	public void testLookup() throws Exception {
+
+		EnumLookup<Tone> lookup = EnumMetadata.of(Tone.class).getLookup();
+
+		for (String json : new String[] {"BRIGHT", "bright", "20", "1", "missing"}) {
+			char[] chars = json.toCharArray();
+			assertBudget("find " + json, LOOKUP_BUDGET, () -> sink = lookup.find(chars, 0, chars.length, false));
+		}
+		assertBudget("find 20L", LOOKUP_BUDGET, () -> sink = lookup.find(20L));
+		assertBudget("find 1L", LOOKUP_BUDGET, () -> sink = lookup.find(1L));
+
+		//An exact match never reaches the case insensitive table
+		char[] exact = "bright".toCharArray();
+		assertBudget("find bright ignoring case", LOOKUP_BUDGET, () -> sink = lookup.find(exact, 0, exact.length, true));
+
+		//A json value that only matches ignoring case is folded on the char buffer, E.g. Bright into bright
+		for (String json : new String[] {"Bright", "bRIGHT", "br\u0130ght", "Brightest"}) {
+			char[] chars = json.toCharArray();
+			assertBudget("find " + json + " ignoring case", LOOKUP_BUDGET, () -> sink = lookup.find(chars, 0, chars.length, true));
+		}
+
+		//A json value that only matches normalized is normalized on the char buffer, E.g. " Bri-ght " into bright
+		EnumLookup.Normalized normalized = lookup.normalized(new StandardKeyNormalizer(EnumSet.allOf(Normalization.class)));
+		for (String json : new String[] {" Bri-ght ", "MUTED_", "no_match"}) {
+			char[] chars = json.toCharArray();
+			assertBudget("find " + json + " normalized", LOOKUP_BUDGET, () -> sink = lookup.find(chars, 0, chars.length, false, normalized));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSerialize() throws Exception {
+
+		SerializerProvider provider = mapper.getSerializerProviderInstance();
+		JsonGenerator gen = mapper.getFactory().createGenerator(Writer.nullWriter());
+
+		for (Projection projection : Projection.values()) {
+			EnumerationSerializer<Tone> serializer = new EnumerationSerializer<>((Class<Enum<Tone>>) (Class<?>) Tone.class, projection);
+			assertBudget("serialize " + projection, SERIALIZE_BUDGET, () -> serializer.serialize(Tone.BRIGHT, gen, provider));
+		}
+	}
+
+	@Test
+	public void testDeserialize() throws Exception {
+
+		EnumMetadata<Tone> metadata = EnumMetadata.of(Tone.class);
+		EnumJson ignoreCase = Annotations.class.getDeclaredField("ignoreCase").getAnnotation(EnumJson.class);
+
+		//One json per Projection, and the ordinal as text
+		for (String json : new String[] {"\"BRIGHT\"", "\"bright\"", "20", "1", "\"1\""}) {
+			assertDeserializeBudget(json, metadata.getDeserializer(metadata.getClassAnnotation()), DESERIALIZE_BUDGET);
+			assertDeserializeBudget(json, metadata.getDeserializer(ignoreCase), DESERIALIZE_BUDGET);
+		}
+
+		assertDeserializeBudget("\"Bright\"", metadata.getDeserializer(ignoreCase), DESERIALIZE_BUDGET);
+	}
+
+	@Test
+	public void testUnknownValue() throws Exception {
+
+		EnumMetadata<Tone> metadata = EnumMetadata.of(Tone.class);
+		EnumerationDeserializer<Tone> orDefault = metadata.getDeserializer(Annotations.class.getDeclaredField("orDefault").getAnnotation(EnumJson.class));
+		EnumerationDeserializer<Tone> orFail = metadata.getDeserializer(Annotations.class.getDeclaredField("orFail").getAnnotation(EnumJson.class));
+
+		assertDeserializeBudget("\"FRED\"", orDefault, DESERIALIZE_BUDGET);
+		assertDeserializeBudget("13", orDefault, DESERIALIZE_BUDGET);
+
+		//Failing costs the exception only, no stack trace or message
+		JsonParser p = parser("\"FRED\"");
+		DeserializationContext ctxt = context(p);
+		assertBudget("deserialize \"FRED\" or fail", FAIL_BUDGET, () -> {
+			p.nextToken();
+			try {
+				sink = orFail.deserialize(p, ctxt);
+			}
+			catch (UnknownEnumValueException e) {
+				sink = e;
+			}
+		});
+		assertTrue(sink instanceof UnknownEnumValueException);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Reads a stream of root values, so the parser's own work per value is only the token.
+	 -------------------------------------------------------------------------------------------*/
+	private void assertDeserializeBudget(String json, EnumerationDeserializer<Tone> deserializer, long budget) throws Exception {
+
+		JsonParser p = parser(json);
+		DeserializationContext ctxt = context(p);
+
+		assertBudget("deserialize " + json, budget, () -> {
+			p.nextToken();
+			sink = deserializer.deserialize(p, ctxt);
+		});
+		assertNotNull(sink, json);
+	}
+
+	private JsonParser parser(String json) throws IOException {
+
+		StringBuilder values = new StringBuilder();
+		for (int i = 0; i < WARMUP_CALLS + MEASURED_CALLS; i++) {
+			values.append(json).append(' ');
+		}
+
+		return mapper.getFactory().createParser(values.toString());
+	}
+
+	private DeserializationContext context(JsonParser p) {
+
+		return ((DefaultDeserializationContext) mapper.getDeserializationContext())
+				.createInstance(mapper.getDeserializationConfig(), p, null);
+	}
+
+	private void assertBudget(String path, long budget, Call call) throws IOException {
+
+		for (int i = 0; i < WARMUP_CALLS; i++) {
+			call.run();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < MEASURED_CALLS; i++) {
+			call.run();
+		}
+		long bytesPerCall = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_CALLS;
+
+		assertTrue(bytesPerCall <= budget, path + " allocated " + bytesPerCall + " bytes per call, the budget is " + budget);
+	}
+}
@@ -0,0 +1,151 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumBitmaskTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumBitmaskTest
+{
+
+	private ObjectMapper mapper;
+
+	@BeforeTest
+	public void setup() {
+		mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+	}
+
+	@EnumJson(serializeProjection = Projection.BITMASK, deserializationAliasFieldName = "alias")
+	enum Permission {
+		READ("r"),
+		WRITE("w"),
+		EXECUTE("x");
+
+		final String alias;
+
+		Permission(String alias) {
+			this.alias = alias;
+		}
+	}
+
+	//More than 64 constants, a long[]
+	@EnumJson(serializeProjection = Projection.BITMASK)
+	enum Flag {
+		F00, F01, F02, F03, F04, F05, F06, F07, F08, F09,
+		F10, F11, F12, F13, F14, F15, F16, F17, F18, F19,
+		F20, F21, F22, F23, F24, F25, F26, F27, F28, F29,
+		F30, F31, F32, F33, F34, F35, F36, F37, F38, F39,
+		F40, F41, F42, F43, F44, F45, F46, F47, F48, F49,
+		F50, F51, F52, F53, F54, F55, F56, F57, F58, F59,
+		F60, F61, F62, F63, F64, F65, F66, F67, F68, F69
+	}
+
+	@EnumJson(serializeProjection = Projection.NAME, deserializationUnknownValue = UnknownValue.NULL)
+	enum Color {
+		RED,
+		GREEN,
+		BLUE
+	}
+
+	static class Grant {
+
+		public EnumSet<Permission> permissions;
+
+		public Set<Flag> flags;
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializationAliasFieldName = "alias")
+		public Set<Permission> aliases;
+
+		@EnumJson(serializeProjection = Projection.BITMASK)
+		public Set<Color> colors;
+
+		public Set<Color> names;
+	}
+
+	@Test
+	public void testBitmask() throws Exception {
+
+		//A root value needs its declared type, the enum of an EnumSet is erased
+		ObjectWriter permissionWriter = mapper.writerFor(new TypeReference<Set<Permission>>() {});
+		assertEquals(permissionWriter.writeValueAsString(EnumSet.of(Permission.READ, Permission.EXECUTE)), "5");
+		assertEquals(permissionWriter.writeValueAsString(EnumSet.noneOf(Permission.class)), "0");
+		assertEquals(mapper.writeValueAsString(Permission.WRITE), "\"WRITE\"");
+
+		ObjectWriter flagWriter = mapper.writerFor(new TypeReference<EnumSet<Flag>>() {});
+		assertEquals(flagWriter.writeValueAsString(EnumSet.of(Flag.F00, Flag.F63, Flag.F64, Flag.F69)), "[" + (1L | Long.MIN_VALUE) + "," + (1L | 1L << 5) + "]");
+
+		Set<Permission> permissions = mapper.readValue("5", new TypeReference<Set<Permission>>() {});
+		assertTrue(permissions instanceof EnumSet);
+		assertEquals(permissions, EnumSet.of(Permission.READ, Permission.EXECUTE));
+
+		EnumSet<Flag> flags = EnumSet.of(Flag.F01, Flag.F40, Flag.F66);
+		assertEquals(mapper.readValue(flagWriter.writeValueAsString(flags), new TypeReference<EnumSet<Flag>>() {}), flags);
+
+		//Bits past the last constant are ignored
+		assertEquals(mapper.readValue("" + (2L | 1L << 3 | 1L << 40), new TypeReference<Set<Permission>>() {}), EnumSet.of(Permission.WRITE));
+		assertEquals(mapper.readValue("[0, " + (1L << 6) + ", 1]", new TypeReference<Set<Flag>>() {}), EnumSet.noneOf(Flag.class));
+
+		//Constants are still read, E.g. written before the switch to BITMASK
+		assertEquals(mapper.readValue("[\"w\", \"READ\", null]", new TypeReference<Set<Permission>>() {}), EnumSet.of(Permission.READ, Permission.WRITE));
+	}
+
+	@Test
+	public void testProperties() throws Exception {
+
+		Grant grant = new Grant();
+		grant.permissions = EnumSet.of(Permission.WRITE);
+		grant.flags = EnumSet.of(Flag.F65);
+		grant.aliases = new LinkedHashSet<>(List.of(Permission.EXECUTE, Permission.READ));
+		grant.colors = EnumSet.of(Color.RED, Color.BLUE);
+		grant.names = EnumSet.of(Color.GREEN);
+
+		String json = mapper.writeValueAsString(grant);
+		assertEquals(json, "{\"permissions\":2,\"flags\":[0,2],\"aliases\":[\"x\",\"r\"],\"colors\":5,\"names\":[\"GREEN\"]}");
+
+		Grant read = mapper.readValue(json, Grant.class);
+		assertEquals(read.permissions, grant.permissions);
+		assertEquals(read.flags, grant.flags);
+		assertEquals(read.aliases, EnumSet.of(Permission.READ, Permission.EXECUTE));
+		assertEquals(read.colors, grant.colors);
+		assertEquals(read.names, grant.names);
+
+		//Without BITMASK numbers are constants, unknown ones are left out
+		assertEquals(mapper.readValue("{\"names\":[2, \"PURPLE\", \"RED\"]}", Grant.class).names, EnumSet.of(Color.RED, Color.BLUE));
+	}
+
+	@Test
+	public void testSingleValue() throws Exception {
+
+		Grant read = mapper.readerFor(Grant.class).with(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY).readValue("{\"aliases\":\"w\",\"names\":\"RED\",\"colors\":4}");
+		assertEquals(read.aliases, EnumSet.of(Permission.WRITE));
+		assertEquals(read.names, EnumSet.of(Color.RED));
+		assertEquals(read.colors, EnumSet.of(Color.BLUE));
+
+		//The message names the set of the enum
+		MismatchedInputException e = expectThrows(MismatchedInputException.class, () -> mapper.readValue("{\"names\":\"RED\"}", Grant.class));
+		assertTrue(e.getMessage().contains(Color.class.getName()), e.getMessage());
+	}
+
+	@Test
+	public void testNestedElements() throws Exception {
+
+		MismatchedInputException e = expectThrows(MismatchedInputException.class, () -> mapper.readValue("{\"names\":[{\"x\":\"RED\"},\"GREEN\"]}", Grant.class));
+		assertTrue(e.getMessage().contains(Color.class.getName()), e.getMessage());
+		assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"aliases\":[[\"w\"]],\"names\":[\"RED\"]}", Grant.class));
+	}
+}
@@ -0,0 +1,186 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumContainerTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumContainerTest
+{
+
+	private ObjectMapper mapper;
+
+	@BeforeTest
+	public void setup() {
+		mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+	}
+
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationAliasFieldName = "alias")
+	enum Event {
+		CLICK(1, "c"),
+		VIEW(2, "v"),
+		SCROLL(3, "s");
+
+		final int value;
+		final String alias;
+
+		Event(int value, String alias) {
+			this.value = value;
+			this.alias = alias;
+		}
+	}
+
+	@EnumJson(serializeProjection = Projection.BITMASK, deserializationUnknownValue = UnknownValue.FAIL)
+	enum Device {
+		PHONE,
+		TABLET,
+		DESKTOP
+	}
+
+	static class Session {
+
+		public List<Event> events;
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializationAliasFieldName = "alias")
+		public Event[] aliases;
+
+		public Collection<Event> collection;
+
+		public LinkedList<Event> linked;
+
+		//BITMASK is for Sets, a List is written by name
+		public List<Device> devices;
+	}
+
+	static class Tail {
+
+		public List<Event> events;
+
+		public Event[] aliases;
+
+		public int after;
+	}
+
+	@Test
+	public void testProperties() throws Exception {
+
+		Session session = new Session();
+		session.events = Arrays.asList(Event.VIEW, null, Event.CLICK, Event.VIEW);
+		session.aliases = new Event[] {Event.SCROLL, Event.CLICK};
+		session.collection = new ArrayList<>(List.of(Event.SCROLL));
+		session.linked = new LinkedList<>(List.of(Event.CLICK, Event.SCROLL));
+		session.devices = List.of(Device.TABLET, Device.PHONE);
+
+		String json = mapper.writeValueAsString(session);
+		assertEquals(json, "{\"events\":[2,null,1,2],\"aliases\":[\"s\",\"c\"],\"collection\":[3],\"linked\":[1,3],\"devices\":[\"TABLET\",\"PHONE\"]}");
+
+		Session read = mapper.readValue(json, Session.class);
+		assertEquals(read.events, session.events);
+		assertEquals(read.aliases, session.aliases);
+		assertEquals(read.collection, List.of(Event.SCROLL));
+		assertEquals(read.linked, session.linked);
+		assertEquals(read.devices, session.devices);
+	}
+
+	@Test
+	public void testRootValues() throws Exception {
+
+		assertTrue(mapper.getSerializerProviderInstance().findValueSerializer(Event[].class) instanceof EnumArraySerializer);
+		assertTrue(mapper.getSerializerProviderInstance().findValueSerializer(mapper.constructType(new TypeReference<List<Event>>() {})) instanceof EnumCollectionSerializer);
+
+		Event[] events = {Event.CLICK, Event.SCROLL, null};
+		assertEquals(mapper.writeValueAsString(events), "[1,3,null]");
+		assertEquals(mapper.readValue("[1, \"v\", \"SCROLL\", \"2\", null]", Event[].class), new Event[] {Event.CLICK, Event.VIEW, Event.SCROLL, Event.VIEW, null});
+		assertEquals(mapper.readValue("[]", Event[].class), new Event[0]);
+
+		//Past the first chunk of the ObjectBuffer
+		Event[] many = new Event[5000];
+		for (int i = 0; i < many.length; i++) {
+			many[i] = Event.values()[i % 3];
+		}
+		assertEquals(mapper.readValue(mapper.writeValueAsString(many), Event[].class), many);
+
+		List<Event> list = mapper.readValue("[\"c\", 3, \"MOVE\"]", new TypeReference<List<Event>>() {});
+		assertEquals(list, Arrays.asList(Event.CLICK, Event.SCROLL, null));
+		assertEquals(mapper.writerFor(new TypeReference<List<Event>>() {}).writeValueAsString(list), "[1,3,null]");
+	}
+
+	@Test
+	public void testSingleValue() throws Exception {
+
+		assertThrows(Exception.class, () -> mapper.readValue("\"c\"", new TypeReference<List<Event>>() {}));
+		assertThrows(Exception.class, () -> mapper.readValue("\"c\"", Event[].class));
+
+		ObjectMapper single = new ObjectMapper().registerModule(new EnumJsonModule()).enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+		assertEquals(single.readValue("\"c\"", new TypeReference<List<Event>>() {}), List.of(Event.CLICK));
+		assertEquals(single.readValue("2", Event[].class), new Event[] {Event.VIEW});
+	}
+
+	@Test
+	public void testNestedElements() throws Exception {
+
+		MismatchedInputException e = expectThrows(MismatchedInputException.class, () -> mapper.readValue("{\"events\":[{\"x\":\"c\"},\"v\"],\"after\":5}", Tail.class));
+		assertTrue(e.getMessage().contains(Event.class.getName()), e.getMessage());
+		assertThrows(MismatchedInputException.class, () -> mapper.readValue("{\"aliases\":[[\"c\"]],\"after\":5}", Tail.class));
+
+		//A handler that skips the nested value, what follows the containers is still read
+		ObjectMapper skipping = new ObjectMapper().registerModule(new EnumJsonModule()).addHandler(new DeserializationProblemHandler() {
+			@Override
+			public Object handleUnexpectedToken(DeserializationContext ctxt, JavaType targetType, JsonToken t, JsonParser p, String failureMsg) throws IOException {
+				p.skipChildren();
+				return null;
+			}
+		});
+		Tail read = skipping.readValue("{\"events\":[{\"x\":\"c\"},\"v\"],\"aliases\":[[\"c\"],\"s\"],\"after\":5}", Tail.class);
+		assertEquals(read.events, Arrays.asList(null, Event.VIEW));
+		assertEquals(read.aliases, new Event[] {null, Event.SCROLL});
+		assertEquals(read.after, 5);
+	}
+
+	@Test
+	public void testUnknownValue() throws Exception {
+
+		assertThrows(UnknownEnumValueException.class, () -> mapper.readValue("[\"PHONE\", \"WATCH\"]", Device[].class));
+		assertThrows(Exception.class, () -> mapper.readValue("[\"PHONE\", \"WATCH\"]", new TypeReference<List<Device>>() {}));
+	}
+
+	@Test
+	public void testMetrics() throws Exception {
+
+		EnumJsonCounters counters = new EnumJsonCounters();
+		EnumJsonMetrics.install(counters);
+		try {
+			mapper.writeValueAsString(new Event[] {Event.CLICK, null, Event.VIEW});
+			mapper.readValue("[1, \"v\", null]", Event[].class);
+
+			String prefix = Event.class.getName() + '.';
+			assertEquals(counters.snapshot().get(prefix + "serialize.VALUE"), Long.valueOf(2));
+			assertEquals(counters.snapshot().get(prefix + "lookup.VALUE"), Long.valueOf(1));
+			assertEquals(counters.snapshot().get(prefix + "lookup.ALIAS"), Long.valueOf(1));
+		}
+		finally {
+			EnumJsonMetrics.install(null);
+		}
+	}
+}
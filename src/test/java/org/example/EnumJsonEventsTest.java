@@ -0,0 +1,128 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonEventsTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumJsonEventsTest
+{
+
+	private ObjectMapper mapper;
+
+	@BeforeTest
+	public void setup() {
+		mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+	}
+
+	@EnumJson(serializeProjection = Projection.VALUE)
+	enum Topping {
+		CHEESE(1),
+		ONION(2),
+		PEPPER(3);
+
+		final int value;
+
+		Topping(int value) {
+			this.value = value;
+		}
+	}
+
+	static class Pizza {
+
+		@EnumJson(serializeProjection = Projection.VALUE, deserializationUnknownValue = UnknownValue.FAIL)
+		public Topping strict;
+	}
+
+	//Not annotated and only used here, so no warmup builds its tables before the recording
+	enum Crust {
+		THIN,
+		THICK,
+		STUFFED
+	}
+
+	@Test
+	public void testEvents() throws Exception {
+
+		List<RecordedEvent> events;
+		Path file = Files.createTempFile("enumjson", ".jfr");
+		try {
+			try (Recording recording = new Recording()) {
+				recording.enable("org.example.EnumJson.TableBuild");
+				recording.enable("org.example.EnumJson.LookupMiss");
+				recording.start();
+
+				EnumMetadata<Crust> metadata = EnumMetadata.of(Crust.class);
+				metadata.getLookup();
+				metadata.getEncodings();
+
+				assertEquals(mapper.readValue("\"ONION\"", Topping.class), Topping.ONION);
+				assertNull(mapper.readValue("\"MAYO\"", Topping.class));
+				assertNull(mapper.readValue("42", Topping.class));
+				assertNull(mapper.readValue("\"" + "X".repeat(100) + "\"", Topping.class));
+				assertThrows(JsonMappingException.class, () -> mapper.readValue("{\"strict\":\"MAYO\"}", Pizza.class));
+
+				recording.stop();
+				recording.dump(file);
+			}
+			events = RecordingFile.readAllEvents(file);
+		}
+		finally {
+			Files.delete(file);
+		}
+
+		//Topping's tables may also be built here, unless another test already used it
+		List<RecordedEvent> builds = named(events, "org.example.EnumJson.TableBuild").stream()
+				.filter(e -> e.getClass("enumClass").getName().equals(Crust.class.getName()))
+				.collect(Collectors.toList());
+		assertEquals(builds.stream().map(e -> e.getString("table")).sorted().collect(Collectors.toList()), List.of("encodings", "lookup"));
+		//The names, and one output per constant and Projection
+		assertEquals(builds.stream().mapToInt(e -> e.getInt("entries")).sorted().boxed().collect(Collectors.toList()), List.of(3, 15));
+
+		List<RecordedEvent> misses = named(events, "org.example.EnumJson.LookupMiss");
+		assertEquals(misses.stream().map(e -> e.getString("value")).collect(Collectors.toList()), List.of("MAYO", "42", "X".repeat(64), "MAYO"));
+		assertEquals(misses.stream().map(e -> e.getBoolean("truncated")).collect(Collectors.toList()), List.of(false, false, true, false));
+		//What each miss produced
+		assertEquals(misses.stream().map(e -> e.getString("policy")).collect(Collectors.toList()), List.of("NULL", "NULL", "NULL", "FAIL"));
+	}
+
+	@Test
+	public void testDisabledByDefault() throws Exception {
+
+		List<RecordedEvent> events;
+		Path file = Files.createTempFile("enumjson", ".jfr");
+		try {
+			try (Recording recording = new Recording()) {
+				recording.start();
+				assertNull(mapper.readValue("\"MAYO\"", Topping.class));
+				recording.stop();
+				recording.dump(file);
+			}
+			events = RecordingFile.readAllEvents(file);
+		}
+		finally {
+			Files.delete(file);
+		}
+
+		assertTrue(named(events, "org.example.EnumJson.LookupMiss").isEmpty());
+	}
+
+	private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+		return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,181 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import org.example.EnumJson.Normalization;
+import org.example.EnumJson.Projection;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonMetricsTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumJsonMetricsTest
+{
+
+	private ObjectMapper mapper;
+
+	@BeforeTest
+	public void setup() {
+		mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+	}
+
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationAliasFieldName = "alias")
+	enum Sauce {
+		KETCHUP(10, "red"),
+		MUSTARD(20, "yellow"),
+		RELISH(30, "green");
+
+		final int value;
+		final String alias;
+
+		Sauce(int value, String alias) {
+			this.value = value;
+			this.alias = alias;
+		}
+	}
+
+	static class Order {
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializeCaseInsensitive = true)
+		public Sauce sauce;
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializationNormalization = Normalization.SEPARATOR_INSENSITIVE)
+		public Sauce spread;
+	}
+
+	@Test
+	public void testCounts() throws Exception {
+
+		EnumJsonCounters counters = new EnumJsonCounters();
+		EnumJsonMetrics.install(counters);
+		try {
+			assertEquals(mapper.readValue("\"MUSTARD\"", Sauce.class), Sauce.MUSTARD);
+			assertEquals(mapper.readValue("\"yellow\"", Sauce.class), Sauce.MUSTARD);
+			assertEquals(mapper.readValue("20", Sauce.class), Sauce.MUSTARD);
+			assertEquals(mapper.readValue("\"20\"", Sauce.class), Sauce.MUSTARD);
+			assertEquals(mapper.readValue("1", Sauce.class), Sauce.MUSTARD);
+			assertEquals(mapper.readValue("\"1\"", Sauce.class), Sauce.MUSTARD);
+			assertNull(mapper.readValue("\"MAYO\"", Sauce.class));
+			assertEquals(mapper.readValue("{\"sauce\":\"Yellow\"}", Order.class).sauce, Sauce.MUSTARD);
+			assertEquals(mapper.readValue("{\"sauce\":\"Mustard\"}", Order.class).sauce, Sauce.MUSTARD);
+			assertEquals(mapper.readValue("{\"spread\":\"yel-low\"}", Order.class).spread, Sauce.MUSTARD);
+
+			Order order = new Order();
+			order.sauce = Sauce.RELISH;
+			order.spread = Sauce.RELISH;
+			assertEquals(mapper.writeValueAsString(order), "{\"sauce\":\"green\",\"spread\":\"green\"}");
+			assertEquals(mapper.writeValueAsString(Sauce.RELISH), "30");
+
+			Map<String, Long> snapshot = counters.snapshot();
+			String prefix = Sauce.class.getName() + '.';
+			assertEquals(snapshot.get(prefix + "lookup.NAME"), Long.valueOf(2));
+			assertEquals(snapshot.get(prefix + "lookup.ALIAS"), Long.valueOf(3));
+			assertEquals(snapshot.get(prefix + "lookup.VALUE"), Long.valueOf(2));
+			assertEquals(snapshot.get(prefix + "lookup.ORDINAL"), Long.valueOf(2));
+			assertEquals(snapshot.get(prefix + "miss"), Long.valueOf(1));
+			assertEquals(snapshot.get(prefix + "caseInsensitiveFallback"), Long.valueOf(2));
+			assertEquals(snapshot.get(prefix + "normalizedFallback"), Long.valueOf(1));
+			assertEquals(snapshot.get(prefix + "serialize.ALIAS"), Long.valueOf(2));
+			assertEquals(snapshot.get(prefix + "serialize.VALUE"), Long.valueOf(1));
+			assertEquals(snapshot.get(prefix + "serialize.NAME"), Long.valueOf(0));
+
+			assertEquals(counters.lookupCount(), 9);
+			assertEquals(counters.missCount(), 1);
+			assertEquals(counters.caseInsensitiveFallbackCount(), 2);
+
+			counters.reset();
+			assertTrue(counters.snapshot().isEmpty());
+		}
+		finally {
+			EnumJsonMetrics.install(null);
+		}
+
+		//Off again, nothing is counted
+		mapper.readValue("\"MAYO\"", Sauce.class);
+		assertTrue(counters.snapshot().isEmpty());
+	}
+
+	enum Unloaded {
+		ONE
+	}
+
+	@Test
+	public void testClassUnloading() throws Exception {
+
+		EnumJsonCounters counters = new EnumJsonCounters();
+		WeakReference<Class<?>> reference = countInOwnLoader(counters);
+		assertEquals(counters.snapshot().get(Unloaded.class.getName() + ".lookup.NAME"), Long.valueOf(1));
+
+		//The counters don't hold the enum class
+		for (int i = 0; (i < 10) && (null != reference.get()); i++) {
+			System.gc();
+		}
+		assertNull(reference.get());
+		assertEquals(counters.lookupCount(), 1);
+
+		//The same enum loaded again adds to the same counters
+		counters.lookup(Unloaded.class, Projection.NAME);
+		assertEquals(counters.snapshot().get(Unloaded.class.getName() + ".lookup.NAME"), Long.valueOf(2));
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		Counts a copy of Unloaded defined by a class loader nothing else references.
+	 -------------------------------------------------------------------------------------------*/
+	private static WeakReference<Class<?>> countInOwnLoader(EnumJsonCounters counters) throws Exception {
+
+		byte[] bytes;
+		try (InputStream in = Unloaded.class.getResourceAsStream('/' + Unloaded.class.getName().replace('.', '/') + ".class")) {
+			bytes = in.readAllBytes();
+		}
+
+		ClassLoader loader = new ClassLoader(EnumJsonMetricsTest.class.getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+				return Unloaded.class.getName().equals(name) ? defineClass(name, bytes, 0, bytes.length) : super.loadClass(name, resolve);
+			}
+		};
+		Class<?> copy = loader.loadClass(Unloaded.class.getName());
+		assertNotSame(copy, Unloaded.class);
+
+		counters.lookup(copy, Projection.NAME);
+		return new WeakReference<>(copy);
+	}
+
+	@Test
+	public void testJmx() throws Exception {
+
+		EnumJsonCounters counters = new EnumJsonCounters();
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = EnumJsonMetricsJmx.register(counters);
+		EnumJsonMetrics.install(counters);
+		try {
+			assertNull(mapper.readValue("\"MAYO\"", Sauce.class));
+			assertEquals(mapper.readValue("\"KETCHUP\"", Sauce.class), Sauce.KETCHUP);
+
+			assertEquals(server.getAttribute(name, "MissCount"), 1L);
+			assertEquals(server.getAttribute(name, "LookupCount"), 1L);
+
+			TabularData snapshot = (TabularData) server.getAttribute(name, "Snapshot");
+			assertEquals(snapshot.get(new Object[] {Sauce.class.getName() + ".lookup.NAME"}).get("value"), 1L);
+
+			server.invoke(name, "reset", null, null);
+			assertEquals(server.getAttribute(name, "MissCount"), 0L);
+		}
+		finally {
+			EnumJsonMetrics.install(null);
+			EnumJsonMetricsJmx.unregister();
+		}
+
+		assertFalse(server.isRegistered(name));
+	}
+}
@@ -0,0 +1,115 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.example.EnumJson.Projection;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonModuleTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumJsonModuleTest
+{
+
+	private ObjectMapper mapper;
+
+	@BeforeTest
+	public void setup() {
+		mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+	}
+
+	//No JsonSerialize, JsonDeserialize or Deserializer subclass
+	@EnumJson(serializeProjection = Projection.VALUE, deserializeCaseInsensitive = true)
+	enum Planet {
+		MERCURY("Mercurio"),
+		VENUS("Venus") {
+			@Override
+			public String toString() {
+				return "Morning star";
+			}
+		},
+		EARTH("Tierra");
+
+		final String value;
+
+		Planet(String value) {
+			this.value = value;
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target(ElementType.TYPE)
+	@EnumJson(serializeProjection = Projection.ALIAS)
+	@interface ByAlias {
+	}
+
+	@ByAlias
+	enum Tide {
+		HIGH("high"),
+		LOW("low");
+
+		final String alias;
+
+		Tide(String alias) {
+			this.alias = alias;
+		}
+	}
+
+	//Left to Jackson
+	enum Plain {
+		ONE,
+		TWO
+	}
+
+	static class Orbit {
+
+		public Planet planet = Planet.VENUS;
+
+		@EnumJson(serializeProjection = Projection.ORDINAL)
+		public Planet ordinal = Planet.EARTH;
+
+		public Tide tide = Tide.LOW;
+
+		public Plain plain = Plain.TWO;
+	}
+
+	@Test
+	public void testModule() throws Exception {
+
+		assertEquals(mapper.writeValueAsString(Planet.VENUS), "\"Venus\"");
+		assertEquals(mapper.readValue("\"tierra\"", Planet.class), Planet.EARTH);
+		assertEquals(mapper.readValue("\"MERCURY\"", Planet.class), Planet.MERCURY);
+		assertEquals(mapper.writeValueAsString(Tide.HIGH), "\"high\"");
+		assertEquals(mapper.readValue("\"low\"", Tide.class), Tide.LOW);
+
+		String json = mapper.writeValueAsString(new Orbit());
+		assertEquals(json, "{\"planet\":\"Venus\",\"ordinal\":2,\"tide\":\"low\",\"plain\":\"TWO\"}");
+
+		Orbit orbit = mapper.readValue("{\"planet\":\"mercurio\",\"ordinal\":1,\"tide\":\"high\",\"plain\":\"ONE\"}", Orbit.class);
+		assertEquals(orbit.planet, Planet.MERCURY);
+		assertEquals(orbit.ordinal, Planet.VENUS);
+		assertEquals(orbit.tide, Tide.HIGH);
+		assertEquals(orbit.plain, Plain.ONE);
+	}
+
+	@Test
+	public void testSharedBetweenMappers() throws Exception {
+
+		ObjectMapper other = new ObjectMapper().registerModule(new EnumJsonModule());
+		other.readValue("\"Venus\"", Planet.class);
+		mapper.readValue("\"Venus\"", Planet.class);
+
+		EnumMetadata<Planet> metadata = EnumMetadata.of(Planet.class);
+		assertSame(EnumJsonModule.annotatedMetadata(Planet.VENUS.getClass()), metadata);
+		assertSame(metadata.getDeserializer(metadata.getClassAnnotation()), metadata.getDeserializer(metadata.getClassAnnotation()));
+		assertSame(metadata.getSerializer(), metadata.getSerializer());
+		assertNull(EnumJsonModule.annotatedMetadata(Plain.class));
+	}
+}
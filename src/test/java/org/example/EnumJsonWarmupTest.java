@@ -0,0 +1,47 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import java.util.Arrays;
+import org.example.EnumJsonWarmup.Report;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumJsonWarmupTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumJsonWarmupTest
+{
+
+	@Test
+	public void testWarmIndexed() {
+
+		//EnumJsonProcessor indexes the EnumJson enums of the tests
+		Report report = EnumJsonWarmup.warmIndexed(getClass().getClassLoader(), true);
+
+		assertTrue(report.getEnumCount() >= 20, report.toString());
+		assertTrue(report.getFailures().isEmpty(), report.toString());
+		assertFalse(report.getDuration().isNegative());
+	}
+
+	@Test
+	public void testWarmPackages() {
+
+		Report report = EnumJsonWarmup.warmPackages(getClass().getClassLoader(), false, "org.example");
+
+		//Every enum with the annotation or a meta-annotation, E.g. EnumJsonModuleTest.Tide
+		assertTrue(report.getEnumCount() >= 20, report.toString());
+		assertTrue(report.getFailures().isEmpty(), report.toString());
+
+		assertEquals(EnumJsonWarmup.warmPackages(getClass().getClassLoader(), false, "org.example.none").getEnumCount(), 0);
+	}
+
+	@Test
+	public void testWarmClasses() {
+
+		Report report = EnumJsonWarmup.warm(Arrays.asList(EnumJsonModuleTest.Planet.class, String.class), false);
+
+		assertEquals(report.getEnumCount(), 1);
+		assertTrue(report.toString().startsWith("Prepared 1 EnumJson enums in "));
+	}
+}
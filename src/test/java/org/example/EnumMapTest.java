@@ -0,0 +1,141 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.EnumMapTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class EnumMapTest
+{
+
+	private ObjectMapper mapper;
+
+	@BeforeTest
+	public void setup() {
+		mapper = new ObjectMapper().registerModule(new EnumJsonModule());
+	}
+
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationAliasFieldName = "alias", deserializeCaseInsensitive = true)
+	enum Day {
+		MONDAY(10, "mon"),
+		TUESDAY(20, "tue"),
+		WEDNESDAY(30, "wed");
+
+		final int value;
+		final String alias;
+
+		Day(int value, String alias) {
+			this.value = value;
+			this.alias = alias;
+		}
+	}
+
+	@EnumJson(serializeProjection = Projection.ALIAS, deserializationAliasFieldName = "code", deserializationUnknownValue = UnknownValue.FAIL)
+	enum Tier {
+		FREE("f"),
+		PRO("p");
+
+		final String code;
+
+		Tier(String code) {
+			this.code = code;
+		}
+	}
+
+	static class Pricing {
+
+		public Map<Day, Integer> prices;
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializationAliasFieldName = "alias")
+		public EnumMap<Day, String> notes;
+
+		public HashMap<Day, Integer> hashed;
+
+		@EnumJson(serializeProjection = Projection.ORDINAL)
+		public Map<Day, List<Day>> next;
+	}
+
+	@Test
+	public void testProperties() throws Exception {
+
+		Pricing pricing = new Pricing();
+		pricing.prices = new EnumMap<>(Map.of(Day.MONDAY, 5, Day.WEDNESDAY, 7));
+		pricing.notes = new EnumMap<>(Map.of(Day.TUESDAY, "closed"));
+		pricing.hashed = new HashMap<>(Map.of(Day.TUESDAY, 1));
+		pricing.next = new EnumMap<>(Map.of(Day.MONDAY, List.of(Day.TUESDAY, Day.WEDNESDAY)));
+
+		String json = mapper.writeValueAsString(pricing);
+		assertEquals(json, "{\"prices\":{\"10\":5,\"30\":7},\"notes\":{\"tue\":\"closed\"},\"hashed\":{\"20\":1},\"next\":{\"0\":[1,2]}}");
+
+		Pricing read = mapper.readValue(json, Pricing.class);
+		assertTrue(read.prices instanceof EnumMap);
+		assertEquals(read.prices, pricing.prices);
+		assertEquals(read.notes, pricing.notes);
+		assertEquals(read.hashed, pricing.hashed);
+		assertEquals(read.next, pricing.next);
+	}
+
+	@Test
+	public void testKeys() throws Exception {
+
+		//Every Projection, ignoring case, as a json string would be read
+		Map<Day, Integer> days = mapper.readValue("{\"MONDAY\":1,\"tue\":2,\"Wed\":3,\"30\":4}", new TypeReference<Map<Day, Integer>>() {});
+		assertTrue(days instanceof EnumMap);
+		assertEquals(days, Map.of(Day.MONDAY, 1, Day.TUESDAY, 2, Day.WEDNESDAY, 4));
+
+		//Unknown keys are skipped with their value
+		assertEquals(mapper.readValue("{\"SUNDAY\":{\"a\":[1]},\"mon\":1}", new TypeReference<Map<Day, Integer>>() {}), Map.of(Day.MONDAY, 1));
+
+		//Jackson's map deserializer with EnumKeyDeserializer
+		HashMap<Day, Integer> hashed = mapper.readValue("{\"Tue\":2,\"10\":1}", new TypeReference<HashMap<Day, Integer>>() {});
+		assertEquals(hashed, Map.of(Day.MONDAY, 1, Day.TUESDAY, 2));
+
+		assertThrows(UnknownEnumValueException.class, () -> mapper.readValue("{\"f\":1,\"x\":2}", new TypeReference<Map<Tier, Integer>>() {}));
+		assertThrows(UnknownEnumValueException.class, () -> mapper.readValue("{\"x\":2}", new TypeReference<HashMap<Tier, Integer>>() {}));
+	}
+
+	@Test
+	public void testRootValues() throws Exception {
+
+		EnumMap<Tier, Integer> quotas = new EnumMap<>(Tier.class);
+		quotas.put(Tier.FREE, 10);
+		quotas.put(Tier.PRO, 1000);
+		assertEquals(mapper.writeValueAsString(quotas), "{\"f\":10,\"p\":1000}");
+		assertEquals(mapper.writeValueAsString(new HashMap<>(Map.of(Tier.PRO, 1))), "{\"p\":1}");
+
+		assertEquals(mapper.readValue("{\"f\":10,\"p\":1000}", new TypeReference<EnumMap<Tier, Integer>>() {}), quotas);
+		assertEquals(mapper.readValue("{}", new TypeReference<Map<Tier, Integer>>() {}), Map.of());
+	}
+
+	@Test
+	public void testMetrics() throws Exception {
+
+		EnumJsonCounters counters = new EnumJsonCounters();
+		EnumJsonMetrics.install(counters);
+		try {
+			mapper.writeValueAsString(new EnumMap<>(Map.of(Day.MONDAY, 1, Day.TUESDAY, 2)));
+			mapper.readValue("{\"mon\":1,\"20\":2,\"SUNDAY\":3}", new TypeReference<Map<Day, Integer>>() {});
+
+			String prefix = Day.class.getName() + '.';
+			assertEquals(counters.snapshot().get(prefix + "serialize.VALUE"), Long.valueOf(2));
+			assertEquals(counters.snapshot().get(prefix + "lookup.ALIAS"), Long.valueOf(1));
+			assertEquals(counters.snapshot().get(prefix + "lookup.VALUE"), Long.valueOf(1));
+			assertEquals(counters.snapshot().get(prefix + "miss"), Long.valueOf(1));
+		}
+		finally {
+			EnumJsonMetrics.install(null);
+		}
+	}
+}
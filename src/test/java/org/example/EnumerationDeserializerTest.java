@@ -2,11 +2,26 @@ package org.example;
 
 import static org.testng.Assert.*;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.example.EnumJson.Lookup;
+import org.example.EnumJson.Normalization;
 import org.example.EnumJson.Projection;
+import org.example.EnumJson.UnknownValue;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 /*------------------------------------------------------------------------------------------------
@@ -220,6 +235,29 @@ public class EnumerationDeserializerTest
 		assertEquals(stuff.anotherNum, SomeNums.TWO);
 	}
 
+	@Test
+	public void testDeserializationFromBytesAndReader() throws Exception {
+
+		String json = "{\"someDay\":0,\"nextDay\":\"TUESDAY\",\"middleDay\":\"Miercoles\",\"tuesday\":\"Tuesday\",\"aNum\":0,\"anotherNum\":\"TWO\"}";
+
+		SomeStuff fromBytes = mapper.readValue(json.getBytes(StandardCharsets.UTF_8), SomeStuff.class);
+		SomeStuff fromReader = mapper.readValue(new StringReader(json), SomeStuff.class);
+
+		for (SomeStuff stuff : new SomeStuff[] {fromBytes, fromReader}) {
+			assertEquals(stuff.someDay, SomeDays.MONDAY);
+			assertEquals(stuff.nextDay, SomeDays.TUESDAY);
+			assertEquals(stuff.middleDay, SomeDays.WEDNESDAY);
+			assertEquals(stuff.tuesday, SomeDays.TUESDAY);
+			assertEquals(stuff.aNum, SomeNums.ONE);
+			assertEquals(stuff.anotherNum, SomeNums.TWO);
+		}
+
+		//Root values, including the empty string and a lone double quote
+		assertEquals(mapper.readValue("\"Lunes\"".getBytes(StandardCharsets.UTF_8), SomeDays.class), SomeDays.MONDAY);
+		assertNull(mapper.readValue("\"\"", SomeDays.class));
+		assertNull(mapper.readValue("\"\\\"\"", SomeDays.class));
+	}
+
 	static class SameStuffMultipleWays {
 
 		public SomeDays ordinalDay = SomeDays.MONDAY;
@@ -269,6 +307,20 @@ public class EnumerationDeserializerTest
 		json = "\"trout\"";
 		fish = mapper.readValue(json, Fish.class);
 		assertEquals(fish, Fish.TROUT);
+
+		json = "\"tRoUt\"";
+		fish = mapper.readValue(json, Fish.class);
+		assertEquals(fish, Fish.TROUT);
+
+		//Non ASCII folds like String.equalsIgnoreCase, the long s folds to s
+		json = "\"ba\u017Fs\"";
+		fish = mapper.readValue(json, Fish.class);
+		assertEquals(fish, Fish.BASS);
+
+		//Longer than any key
+		json = "\"basses\"";
+		fish = mapper.readValue(json, Fish.class);
+		assertNull(fish);
 	}
 
 	static class Food {
@@ -297,6 +349,47 @@ public class EnumerationDeserializerTest
 
 	}
 
+	@Test
+	public void testCaseInsensitiveConcurrent() throws Exception {
+
+		//A new mapper, so the threads also race to create the contextual deserializers.
+		ObjectMapper sharedMapper = new ObjectMapper();
+		int threads = 16;
+		int loops = 2000;
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<Integer>> results = new ArrayList<>();
+
+			for (int t = 0; t < threads; t++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					int errors = 0;
+					for (int i = 0; i < loops; i++) {
+						Food food = sharedMapper.readValue("{\"fish\":\"bAsS\",\"anotherFish\":\"tROUt\"}", Food.class);
+						if ((null != food.fish) || (Fish.TROUT != food.anotherFish)) {
+							errors++;
+						}
+						food = sharedMapper.readValue("{\"fish\":\"BASS\",\"anotherFish\":\"bass\"}", Food.class);
+						if ((Fish.BASS != food.fish) || (Fish.BASS != food.anotherFish)) {
+							errors++;
+						}
+					}
+					return errors;
+				}));
+			}
+
+			start.countDown();
+			for (Future<Integer> result : results) {
+				assertEquals(result.get().intValue(), 0);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@JsonSerialize(using = EnumerationSerializer.class)
 	@JsonDeserialize(using = EnumerationDeserializer.class)
 	@EnumJson(serializeProjection = Projection.NAME, deserializeCaseInsensitive = true, deserializationClass = Cars.class)
@@ -394,5 +487,335 @@ public class EnumerationDeserializerTest
 		assertEquals(myCats.wanted, CatBreeds.PERSIAN);
 	}
 
+	//A value that is the name of another constant, and a value that is a digit
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@JsonDeserialize(using = EnumerationDeserializer.class)
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationClass = Swapped.class)
+	static enum Swapped {
+		FIRST("SECOND"),
+		SECOND("FIRST"),
+		THIRD("0");
+
+		final String value;
+
+		Swapped(String value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	public void testNameWinsOverValue() throws Exception {
+
+		Swapped swapped = mapper.readValue("\"FIRST\"", Swapped.class);
+		assertEquals(swapped, Swapped.FIRST);
+
+		swapped = mapper.readValue("\"SECOND\"", Swapped.class);
+		assertEquals(swapped, Swapped.SECOND);
+
+		//A value made of digits wins over the ordinal
+		swapped = mapper.readValue("0", Swapped.class);
+		assertEquals(swapped, Swapped.THIRD);
+
+		swapped = mapper.readValue("1", Swapped.class);
+		assertEquals(swapped, Swapped.SECOND);
+	}
+
+	//Enum looked up through a minimal perfect hash
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@JsonDeserialize(using = EnumerationDeserializer.class)
+	@EnumJson(serializeProjection = Projection.VALUE, deserializeCaseInsensitive = true,
+	          deserializationClass = Currency.class, deserializationLookup = Lookup.PERFECT_HASH)
+	static enum Currency {
+		USD("840", "Dollar"),
+		EUR("978", "Euro"),
+		JPY("392", "Yen"),
+		GBP("826", "Pound");
+
+		final String value;
+		final String alias;
+
+		Currency(String value, String alias) {
+			this.value = value;
+			this.alias = alias;
+		}
+	}
+
+	@Test
+	public void testPerfectHashLookup() throws Exception {
+
+		assertEquals(mapper.readValue("\"EUR\"", Currency.class), Currency.EUR);
+		assertEquals(mapper.readValue("\"Yen\"", Currency.class), Currency.JPY);
+		assertEquals(mapper.readValue("\"826\"", Currency.class), Currency.GBP);
+		assertEquals(mapper.readValue("840", Currency.class), Currency.USD);
+		assertEquals(mapper.readValue("\"pound\"", Currency.class), Currency.GBP);
+		assertEquals(mapper.readValue("1", Currency.class), Currency.EUR);
+		assertNull(mapper.readValue("\"CHF\"", Currency.class));
+	}
+
+	//Enum serialized by Value, with negative and zero values
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@JsonDeserialize(using = EnumerationDeserializer.class)
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationClass = Offset.class)
+	static enum Offset {
+		BEHIND(-1),
+		LEVEL(1),
+		AHEAD(7);
+
+		final long value;
+
+		Offset(long value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	public void testNumericTokens() throws Exception {
+
+		assertEquals(mapper.readValue("-1", Offset.class), Offset.BEHIND);
+		assertEquals(mapper.readValue("\"-1\"", Offset.class), Offset.BEHIND);
+
+		//The value 1 wins over the ordinal 1
+		assertEquals(mapper.readValue("1", Offset.class), Offset.LEVEL);
+		assertEquals(mapper.readValue("\"1\"", Offset.class), Offset.LEVEL);
+
+		//No value of 2, so it is the ordinal
+		assertEquals(mapper.readValue("2", Offset.class), Offset.AHEAD);
+		assertEquals(mapper.readValue("7", Offset.class), Offset.AHEAD);
+
+		assertNull(mapper.readValue("-2", Offset.class));
+		assertNull(mapper.readValue("3", Offset.class));
+		assertNull(mapper.readValue("99999999999999999999", Offset.class));
+		assertNull(mapper.readValue("1.0", Offset.class));
+	}
+
+	//The build runs EnumJsonProcessor over the tests, so the enums here have a generated codec
+	@Test
+	public void testGeneratedCodec() throws Exception {
+
+		EnumJsonCodec<SomeDays> codec = EnumMetadata.of(SomeDays.class).getCodec();
+		assertNotNull(codec);
+		assertEquals(codec.fieldName(Projection.VALUE), "value");
+		assertEquals(codec.fieldName(Projection.ALIAS), "alias");
+
+		char[] chars = "\"TUESDAY\"".toCharArray();
+		assertEquals(codec.nameOrdinal(chars, 1, 7), SomeDays.TUESDAY.ordinal());
+		assertEquals(codec.nameOrdinal(chars, 1, 6), -1);
+
+		assertEquals(mapper.readValue("\"Martes\"", SomeDays.class), SomeDays.TUESDAY);
+		assertEquals(mapper.writeValueAsString(SomeDays.TUESDAY), "\"Martes\"");
+	}
+
+	//Unknown values read as a default constant, or fail
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@JsonDeserialize(using = EnumerationDeserializer.class)
+	@EnumJson(serializeProjection = Projection.NAME, deserializationClass = Sizes.class,
+	          deserializationUnknownValue = UnknownValue.DEFAULT, deserializationDefault = "UNKNOWN")
+	static enum Sizes {
+		UNKNOWN,
+		SMALL,
+		LARGE
+	}
+
+	static class Drinks {
+
+		public Sizes size;
+
+		@EnumJson(serializeProjection = Projection.NAME, deserializationUnknownValue = UnknownValue.FAIL)
+		public Sizes strictSize;
+
+		@EnumJson(serializeProjection = Projection.NAME)
+		public Sizes lenientSize;
+	}
+
+	@Test
+	public void testUnknownValue() throws Exception {
+
+		assertEquals(mapper.readValue("\"LARGE\"", Sizes.class), Sizes.LARGE);
+		assertEquals(mapper.readValue("\"FRED\"", Sizes.class), Sizes.UNKNOWN);
+		assertEquals(mapper.readValue("13", Sizes.class), Sizes.UNKNOWN);
+
+		Drinks drinks = mapper.readValue("{\"size\":\"FRED\",\"strictSize\":\"SMALL\",\"lenientSize\":\"FRED\"}", Drinks.class);
+		assertEquals(drinks.size, Sizes.UNKNOWN);
+		assertEquals(drinks.strictSize, Sizes.SMALL);
+		//The property annotation has the default policy, NULL
+		assertNull(drinks.lenientSize);
+
+		ObjectMapper unwrapped = new ObjectMapper().configure(DeserializationFeature.WRAP_EXCEPTIONS, false);
+		UnknownEnumValueException first = expectThrows(UnknownEnumValueException.class,
+				() -> unwrapped.readValue("{\"strictSize\":\"FRED\"}", Drinks.class));
+		UnknownEnumValueException second = expectThrows(UnknownEnumValueException.class,
+				() -> unwrapped.readValue("{\"strictSize\":13}", Drinks.class));
+
+		//A new stackless instance per miss, so nothing a caller attaches to one is seen by another
+		assertNotSame(first, second);
+		assertEquals(first.getStackTrace().length, 0);
+		assertEquals(second.getStackTrace().length, 0);
+		assertEquals(first.getSuppressed().length, 0);
+		assertEquals(first.getEnumClass(), Sizes.class);
+		assertEquals(first.getMessage(), "Unknown value for enum " + Sizes.class.getName());
+		assertSame(first.getMessage(), second.getMessage());
+
+		//With WRAP_EXCEPTIONS Jackson adds the property path
+		JsonMappingException wrapped = expectThrows(JsonMappingException.class,
+				() -> mapper.readValue("{\"strictSize\":\"FRED\"}", Drinks.class));
+		assertTrue(wrapped.getCause() instanceof UnknownEnumValueException);
+		assertNotSame(wrapped.getCause(), first);
+	}
+
+	//Keys matched however clients spell them
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@JsonDeserialize(using = EnumerationDeserializer.class)
+	@EnumJson(serializeProjection = Projection.ALIAS, deserializationClass = Match.class,
+	          deserializationNormalization = {Normalization.TRIM, Normalization.SEPARATOR_INSENSITIVE, Normalization.CASE_FOLD})
+	static enum Match {
+		EXACT("exact-match"),
+		WILDCARD("wild_card"),
+		PREFIX("prefix");
+
+		final String alias;
+
+		Match(String alias) {
+			this.alias = alias;
+		}
+	}
+
+	//Reads a leading zero padded code, E.g. 007 as 7
+	static class StripZeros implements EnumKeyNormalizer {
+
+		//Created without setAccessible
+		private StripZeros() {
+		}
+
+		@Override
+		public int normalize(char[] chars, int offset, int length, char[] buffer) {
+			int start = offset;
+			while ((start < offset + length - 1) && (chars[start] == '0')) {
+				start++;
+			}
+			System.arraycopy(chars, start, buffer, 0, offset + length - start);
+			return offset + length - start;
+		}
+	}
+
+	static class Matches {
+
+		public Match match;
+
+		@EnumJson(serializeProjection = Projection.ALIAS, deserializationNormalization = Normalization.TRIM)
+		public Match trimmed;
+
+		@EnumJson(serializeProjection = Projection.ALIAS)
+		public Match strict;
+	}
+
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@JsonDeserialize(using = EnumerationDeserializer.class)
+	@EnumJson(serializeProjection = Projection.VALUE, deserializationClass = Agent.class, deserializationNormalizer = StripZeros.class)
+	static enum Agent {
+		BOND("7"),
+		TREVELYAN("6");
+
+		final String value;
+
+		Agent(String value) {
+			this.value = value;
+		}
+	}
+
+	@Test
+	public void testNormalization() throws Exception {
+
+		for (String json : new String[] {"\"wildcard\"", "\" WILDCARD \"", "\"Wild_Card\"", "\"wild-card\"", "\"wild card\"", "\"WILD.CARD\""}) {
+			assertEquals(mapper.readValue(json, Match.class), Match.WILDCARD, json);
+		}
+		assertEquals(mapper.readValue("\"exactmatch\"", Match.class), Match.EXACT);
+		assertEquals(mapper.readValue("\"Exact_Match\"", Match.class), Match.EXACT);
+		assertEquals(mapper.readValue("\"  prefix\\t\"", Match.class), Match.PREFIX);
+		assertEquals(mapper.readValue("1", Match.class), Match.WILDCARD);
+		assertNull(mapper.readValue("\"wild-cards\"", Match.class));
+		assertNull(mapper.readValue("\" - \"", Match.class));
+
+		//The property annotation picks its own normalization, or none
+		Matches matches = mapper.readValue("{\"match\":\"Wild-Card\",\"trimmed\":\" prefix \",\"strict\":\" prefix \"}", Matches.class);
+		assertEquals(matches.match, Match.WILDCARD);
+		assertEquals(matches.trimmed, Match.PREFIX);
+		assertNull(matches.strict);
+
+		matches = mapper.readValue("{\"trimmed\":\"Prefix\"}", Matches.class);
+		assertNull(matches.trimmed);
+
+		assertEquals(mapper.readValue("\"007\"", Agent.class), Agent.BOND);
+		assertEquals(mapper.readValue("\"06\"", Agent.class), Agent.TREVELYAN);
+	}
+
+	//A subclass written against the helpers of the original per value scan
+	static class LegacyDeserializer extends SomeNums.Deserializer {
+
+		private static final long serialVersionUID = 1L;
+
+		@SuppressWarnings("deprecation")
+		Object valueOf(SomeNums constant) {
+			return getFieldValue(getDeclaredField("value"), constant);
+		}
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test
+	public void testDeprecatedHelpers() throws Exception {
+
+		LegacyDeserializer deserializer = new LegacyDeserializer();
+		assertEquals(deserializer.valueOf(SomeNums.TWO), 2);
+		assertTrue(deserializer.isDigit("42"));
+		assertFalse(deserializer.isDigit("4a"));
+		assertEquals(deserializer.parseInt("x", -1), -1);
+		assertTrue(deserializer.fieldCanDeserializeDigit(deserializer.getDeclaredField("value")));
+		assertNull(deserializer.getDeclaredField("missing"));
+	}
+
+	//A subclass that overrides deserialize, an unknown planet is PLUTO
+	@JsonDeserialize(using = Planet.Deserializer.class)
+	@EnumJson(serializeProjection = Projection.NAME)
+	enum Planet {
+		MARS,
+		VENUS,
+		PLUTO;
+
+		public static class Deserializer extends EnumerationDeserializer<Planet> {
+
+			private static final long serialVersionUID = 1L;
+
+			public Deserializer() {
+				super(Planet.class);
+			}
+
+			@Override
+			public Enum<Planet> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+				Enum<Planet> result = super.deserialize(p, ctxt);
+				return (null == result) ? PLUTO : result;
+			}
+		}
+	}
+
+	static class Orbits {
+
+		public Planet strict;
+
+		@EnumJson(serializeProjection = Projection.NAME, deserializeCaseInsensitive = true)
+		public Planet loose;
+	}
+
+	@Test
+	public void testSubclassOverride() throws Exception {
+
+		assertEquals(mapper.readValue("\"MARS\"", Planet.class), Planet.MARS);
+		assertEquals(mapper.readValue("\"CERES\"", Planet.class), Planet.PLUTO);
+
+		Orbits orbits = mapper.readValue("{\"strict\":\"venus\",\"loose\":\"venus\"}", Orbits.class);
+		assertEquals(orbits.strict, Planet.PLUTO);
+		assertEquals(orbits.loose, Planet.VENUS);
+
+		orbits = mapper.readValue("{\"loose\":\"Ceres\"}", Orbits.class);
+		assertEquals(orbits.loose, Planet.PLUTO);
+	}
 
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package org.example;
 
 import static org.testng.Assert.*;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -234,4 +236,69 @@ public class EnumerationSerializerTest
 		assertEquals(json, "{\"first\":\"tabby\",\"favorite\":\"stray\",\"wanted\":\"persian\"}");
 	}
 
-}
\ No newline at end of file
+	//Enum serialized by Value, but without a value field
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@EnumJson(serializeProjection = Projection.VALUE)
+	enum NoValue {
+		FIRST,
+		SECOND
+	}
+
+	//Enum serialized by Alias, where an alias is null
+	@JsonSerialize(using = EnumerationSerializer.class)
+	@EnumJson(serializeProjection = Projection.ALIAS)
+	enum SomeAliases {
+		KNOWN("known"),
+		UNKNOWN(null);
+
+		final String alias;
+
+		SomeAliases(String alias) {
+			this.alias = alias;
+		}
+	}
+
+	static class MissingData {
+
+		public NoValue noValue = NoValue.SECOND;
+		public SomeAliases known = SomeAliases.KNOWN;
+		public SomeAliases unknown = SomeAliases.UNKNOWN;
+	}
+
+	@Test
+	public void testMissingFieldAndNullValue() throws Exception {
+
+		String json = mapper.writeValueAsString(new MissingData());
+		assertEquals(json, "{\"noValue\":\"SECOND\",\"known\":\"known\",\"unknown\":null}");
+	}
+
+	@JsonPropertyOrder({"privateDay", "renamed", "gotten"})
+	static class PropertiesNotFields {
+
+		@EnumJson(serializeProjection = Projection.ALIAS)
+		private SomeDays privateDay = SomeDays.MONDAY;
+
+		@JsonProperty("renamed")
+		@EnumJson(serializeProjection = Projection.ORDINAL)
+		public SomeDays renamedDay = SomeDays.TUESDAY;
+
+		private SomeDays gotten = SomeDays.WEDNESDAY;
+
+		public SomeDays getPrivateDay() {
+			return privateDay;
+		}
+
+		@EnumJson(serializeProjection = Projection.NAME)
+		public SomeDays getGotten() {
+			return gotten;
+		}
+	}
+
+	@Test
+	public void testPropertyAnnotations() throws Exception {
+
+		String json = mapper.writeValueAsString(new PropertiesNotFields());
+		assertEquals(json, "{\"privateDay\":\"Monday\",\"renamed\":1,\"gotten\":\"WEDNESDAY\"}");
+	}
+
+}
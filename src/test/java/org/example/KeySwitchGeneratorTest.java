@@ -0,0 +1,178 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.KeySwitchGeneratorTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class KeySwitchGeneratorTest
+{
+
+	@Test
+	public void testGeneratedSwitch() {
+
+		//Aa and BB have the same String.hashCode, so they share a case
+		String[] keys = {"RED", "GREEN", "Aa", "BB", "", "Verde"};
+		int[] ordinals = {0, 1, 2, 3, 4, 200};
+		EnumKeyIndex index = KeySwitchGenerator.generate(keys, ordinals);
+		assertNotNull(index);
+
+		char[] buffer = "[\"RED\",\"Aa\",\"BB\",\"Verde\"]".toCharArray();
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(index.ordinalOf(keys[i]), ordinals[i]);
+			assertEquals(index.ordinalOf(keys[i].toCharArray(), 0, keys[i].length()), ordinals[i]);
+		}
+		assertEquals(index.ordinalOf(buffer, 2, 3), 0);
+		assertEquals(index.ordinalOf(buffer, 8, 2), 2);
+		assertEquals(index.ordinalOf(buffer, 13, 2), 3);
+		assertEquals(index.ordinalOf(buffer, 18, 5), 200);
+
+		assertEquals(index.ordinalOf("red"), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf("C#"), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(buffer, 2, 2), EnumKeyIndex.NOT_FOUND);
+	}
+
+	@Test
+	public void testLargeOrdinals() {
+
+		String[] keys = new String[1000];
+		int[] ordinals = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = "K" + i;
+			ordinals[i] = keys.length - 1 - i;
+		}
+		EnumKeyIndex index = KeySwitchGenerator.generate(keys, ordinals);
+		assertNotNull(index);
+
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(index.ordinalOf(keys[i]), ordinals[i]);
+		}
+		assertEquals(index.ordinalOf("K1000"), EnumKeyIndex.NOT_FOUND);
+	}
+
+	@Test
+	public void testEmpty() {
+
+		EnumKeyIndex index = KeySwitchGenerator.generate(new String[0], new int[0]);
+		assertNotNull(index);
+		assertEquals(index.ordinalOf("RED"), EnumKeyIndex.NOT_FOUND);
+	}
+
+	@Test
+	public void testOwnClassLoader() {
+
+		EnumKeyIndex index = KeySwitchGenerator.generate(new String[] {"RED"}, new int[] {0});
+		ClassLoader loader = index.getClass().getClassLoader();
+		assertNotSame(loader, KeySwitchGenerator.class.getClassLoader());
+		assertSame(loader.getParent(), KeySwitchGenerator.class.getClassLoader());
+		assertNotSame(KeySwitchGenerator.generate(new String[0], new int[0]).getClass().getClassLoader(), loader);
+
+		//Nothing but the index references its loader
+		WeakReference<ClassLoader> reference = new WeakReference<>(loader);
+		index = null;
+		loader = null;
+		for (int i = 0; (i < 10) && (null != reference.get()); i++) {
+			System.gc();
+		}
+		assertNull(reference.get());
+	}
+
+	@Test
+	public void testMethodSize() throws Exception {
+
+		//The largest enum generated for, every method must stay under HotSpot's HugeMethodLimit
+		String[] keys = new String[KeySwitchGenerator.MAX_KEYS];
+		int[] ordinals = new int[keys.length];
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = "A_CONSTANT_WITH_A_LONG_NAME_" + i;
+			ordinals[i] = i;
+		}
+
+		Map<String, Integer> sizes = codeLengths(KeySwitchGenerator.classBytes("org/example/GeneratedKeyIndex$Test", keys, ordinals));
+		assertTrue(sizes.size() > 3, sizes.toString());
+		for (Map.Entry<String, Integer> size : sizes.entrySet()) {
+			assertTrue(size.getValue() < 8000, size.toString());
+		}
+
+		EnumKeyIndex index = KeySwitchGenerator.generate(keys, ordinals);
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(index.ordinalOf(keys[i]), i);
+			assertEquals(index.ordinalOf(keys[i].toCharArray(), 0, keys[i].length()), i);
+		}
+		assertEquals(index.ordinalOf("A_CONSTANT_WITH_A_LONG_NAME_"), EnumKeyIndex.NOT_FOUND);
+	}
+
+	/*-------------------------------------------------------------------------------------------
+		The code length of each method of a class file, by name and descriptor.
+	 -------------------------------------------------------------------------------------------*/
+	private static Map<String, Integer> codeLengths(byte[] classFile) throws IOException {
+
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+		in.skipBytes(8);
+
+		int poolCount = in.readUnsignedShort();
+		String[] utf8 = new String[poolCount];
+		for (int i = 1; i < poolCount; i++) {
+			int tag = in.readUnsignedByte();
+			if (tag == 1) {
+				utf8[i] = in.readUTF();
+			}
+			else if ((tag == 5) || (tag == 6)) {
+				in.skipBytes(8);
+				i++;
+			}
+			else if ((tag == 7) || (tag == 8) || (tag == 16) || (tag == 19) || (tag == 20)) {
+				in.skipBytes(2);
+			}
+			else if (tag == 15) {
+				in.skipBytes(3);
+			}
+			else {
+				in.skipBytes(4);
+			}
+		}
+
+		in.skipBytes(6);
+		in.skipBytes(2 * in.readUnsignedShort());
+		for (int fields = in.readUnsignedShort(); fields > 0; fields--) {
+			in.skipBytes(6);
+			skipAttributes(in);
+		}
+
+		Map<String, Integer> result = new HashMap<>();
+		for (int methods = in.readUnsignedShort(); methods > 0; methods--) {
+			in.skipBytes(2);
+			String method = utf8[in.readUnsignedShort()] + utf8[in.readUnsignedShort()];
+			for (int attributes = in.readUnsignedShort(); attributes > 0; attributes--) {
+				String name = utf8[in.readUnsignedShort()];
+				int length = in.readInt();
+				if ("Code".equals(name)) {
+					in.skipBytes(4);
+					result.put(method, in.readInt());
+					in.skipBytes(length - 8);
+				}
+				else {
+					in.skipBytes(length);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void skipAttributes(DataInputStream in) throws IOException {
+
+		for (int attributes = in.readUnsignedShort(); attributes > 0; attributes--) {
+			in.skipBytes(2);
+			in.skipBytes(in.readInt());
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.LongKeyIndexTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class LongKeyIndexTest
+{
+
+	@Test
+	public void testDenseKeys() {
+
+		//HTTP like status codes
+		long[] keys = {200, 201, 204, 400, 404, 500};
+		int[] ordinals = {0, 1, 2, 3, 4, 5};
+		LongKeyIndex index = new LongKeyIndex(keys, ordinals);
+
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(index.ordinalOf(keys[i]), ordinals[i]);
+		}
+		assertEquals(index.ordinalOf(199), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(202), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(501), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(Long.MIN_VALUE), EnumKeyIndex.NOT_FOUND);
+	}
+
+	@Test
+	public void testSparseKeys() {
+
+		long[] keys = {Long.MIN_VALUE, -1, 0, 1L << 40, Long.MAX_VALUE};
+		int[] ordinals = {4, 3, 2, 1, 0};
+		LongKeyIndex index = new LongKeyIndex(keys, ordinals);
+
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(index.ordinalOf(keys[i]), ordinals[i]);
+		}
+		assertEquals(index.ordinalOf(1), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(-2), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(Long.MAX_VALUE - 1), EnumKeyIndex.NOT_FOUND);
+	}
+
+	@Test
+	public void testNoKeys() {
+
+		LongKeyIndex index = new LongKeyIndex(new long[0], new int[0]);
+		assertEquals(index.ordinalOf(0), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(-1), EnumKeyIndex.NOT_FOUND);
+	}
+}
@@ -0,0 +1,72 @@
+package org.example;
+
+import static org.testng.Assert.*;
+
+import org.example.EnumJson.Lookup;
+import org.testng.annotations.Test;
+/*------------------------------------------------------------------------------------------------
+* org.example.PerfectHashKeyIndexTest
+* 10/18/26
+------------------------------------------------------------------------------------------------*/
+
+public class PerfectHashKeyIndexTest
+{
+
+	private static String[] keys(int size)
+	{
+		String[] keys = new String[size];
+		for (int i = 0; i < size; i++) {
+			keys[i] = "CODE_" + i;
+		}
+		return keys;
+	}
+
+	private static int[] ordinals(int size)
+	{
+		int[] ordinals = new int[size];
+		for (int i = 0; i < size; i++) {
+			ordinals[i] = i % 65535;
+		}
+		return ordinals;
+	}
+
+	@Test
+	public void testEveryKeyIsFound() {
+
+		for (int size : new int[] {0, 1, 2, 10, 1000, 20000}) {
+			String[] keys = keys(size);
+			int[] ordinals = ordinals(size);
+			EnumKeyIndex index = EnumKeyIndex.of(keys, ordinals, Lookup.PERFECT_HASH);
+
+			for (int i = 0; i < size; i++) {
+				assertEquals(index.ordinalOf(keys[i]), ordinals[i], keys[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testMissingKeysAreNotFound() {
+
+		EnumKeyIndex index = EnumKeyIndex.of(keys(5000), ordinals(5000), Lookup.PERFECT_HASH);
+
+		assertEquals(index.ordinalOf("CODE_5000"), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf("code_1"), EnumKeyIndex.NOT_FOUND);
+		assertEquals(index.ordinalOf(""), EnumKeyIndex.NOT_FOUND);
+
+		index = EnumKeyIndex.of(new String[0], new int[0], Lookup.PERFECT_HASH);
+		assertEquals(index.ordinalOf("CODE_1"), EnumKeyIndex.NOT_FOUND);
+	}
+
+	@Test
+	public void testKeysWithTheSameStringHash() {
+
+		//"Aa" and "BB" have the same String.hashCode
+		String[] keys = {"Aa", "BB", "AaAa", "BBBB", "AaBB", "BBAa"};
+		int[] ordinals = {0, 1, 2, 3, 4, 5};
+		EnumKeyIndex index = EnumKeyIndex.of(keys, ordinals, Lookup.PERFECT_HASH);
+
+		for (int i = 0; i < keys.length; i++) {
+			assertEquals(index.ordinalOf(keys[i]), ordinals[i]);
+		}
+	}
+}